@@ -0,0 +1,57 @@
+package benchmarks;
+
+import graph.CompactGraph;
+import graph.Edge;
+import graph.GraphGenerator;
+
+import java.util.*;
+
+// Бенчмарктерге арналған тұқым арқылы қайталанатын графтар
+public final class BenchmarkGraphs {
+    public enum Shape {
+        SPARSE,   // орташа дәреже ~8
+        DENSE,    // орташа дәреже ~64
+        COMPLETE, // толық граф, төбелер саны 2000-нан аспайды
+        GRID,     // шаршы тор
+        GEOMETRIC, // кездейсоқ геометриялық граф, орташа дәреже ~8
+        POWER_LAW  // Барабаши-Альберт, орташа дәреже ~8
+    }
+
+    static final int MAX_COMPLETE_VERTICES = 2000;
+    static final int MAX_WEIGHT = 10_000;
+
+    private BenchmarkGraphs() {
+    }
+
+    static CompactGraph create(Shape shape, int vertexCount, long seed) {
+        GraphGenerator generator;
+        switch (shape) {
+            case COMPLETE:
+                generator = new GraphGenerator(GraphGenerator.Shape.COMPLETE,
+                        Math.min(vertexCount, MAX_COMPLETE_VERTICES), 0, seed);
+                break;
+            case GRID:
+                generator = new GraphGenerator(GraphGenerator.Shape.GRID, vertexCount, 0, seed);
+                break;
+            case GEOMETRIC:
+                generator = new GraphGenerator(GraphGenerator.Shape.GEOMETRIC, vertexCount, 8, seed).connected(true);
+                break;
+            case POWER_LAW:
+                generator = new GraphGenerator(GraphGenerator.Shape.POWER_LAW, vertexCount, 8, seed);
+                break;
+            default:
+                int degree = shape == Shape.DENSE ? 64 : 8;
+                generator = new GraphGenerator(GraphGenerator.Shape.RANDOM, vertexCount, degree, seed).connected(true);
+                break;
+        }
+        return generator.maxWeight(MAX_WEIGHT).toCompact();
+    }
+
+    static List<Edge> toEdges(CompactGraph graph) {
+        List<Edge> edges = new ArrayList<>(graph.getEdgeCount());
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            edges.add(graph.toEdge(e));
+        }
+        return edges;
+    }
+}
@@ -0,0 +1,59 @@
+package benchmarks;
+
+import graph.CompactGraph;
+import graph.Edge;
+import graph.Graph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class GraphConstructionBenchmark {
+
+    @Param({"SPARSE", "DENSE", "COMPLETE", "GRID", "GEOMETRIC", "POWER_LAW"})
+    public BenchmarkGraphs.Shape shape;
+
+    @Param({"1000", "100000"})
+    public int vertices;
+
+    private List<String> nodes;
+    private List<Edge> edges;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CompactGraph source = BenchmarkGraphs.create(shape, vertices, 42);
+        nodes = Arrays.asList(source.getVertexNames());
+        edges = BenchmarkGraphs.toEdges(source);
+    }
+
+    // Бастапқы String кілтті көршілес тізімдер
+    @Benchmark
+    public Map<String, List<Edge>> adjacencyList() {
+        return new Graph(nodes, edges).getAdjacencyList();
+    }
+
+    @Benchmark
+    public CompactGraph compactFromLists() {
+        return CompactGraph.from(nodes, edges);
+    }
+
+    @Benchmark
+    public CompactGraph compactBuilder() {
+        CompactGraph.Builder builder = new CompactGraph.Builder();
+        for (String node : nodes) {
+            builder.addVertex(node);
+        }
+        for (Edge edge : edges) {
+            builder.addEdge(edge.from, edge.to, edge.weight);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,121 @@
+package benchmarks;
+
+import algorithms.Boruvka;
+import algorithms.Kruskal;
+import algorithms.MstWorkspace;
+import algorithms.ParallelPrim;
+import algorithms.Prim;
+import algorithms.WeightedTree;
+import graph.CompactGraph;
+import graph.EdgeStore;
+import graph.Graph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MstBenchmark {
+
+    @Param({"SPARSE", "DENSE", "COMPLETE", "GRID", "GEOMETRIC", "POWER_LAW"})
+    public BenchmarkGraphs.Shape shape;
+
+    @Param({"1000", "100000"})
+    public int vertices;
+
+    private CompactGraph compact;
+    private Graph graph;
+    private double[] doubleWeights;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        compact = BenchmarkGraphs.create(shape, vertices, 42);
+        graph = new Graph(Arrays.asList(compact.getVertexNames()), BenchmarkGraphs.toEdges(compact));
+        graph.getAdjacencyList();
+        graph.toCompact();
+        doubleWeights = Arrays.stream(compact.getEdgeWeight()).mapToDouble(w -> w / 7.0).toArray();
+    }
+
+    @Benchmark
+    public Prim.Result primGraph() {
+        return Prim.findMST(graph);
+    }
+
+    @Benchmark
+    public Kruskal.Result kruskalGraph() {
+        return Kruskal.findMST(graph);
+    }
+
+    @Benchmark
+    public Prim.Result primLazy() {
+        return Prim.findMST(compact, Prim.Mode.LAZY);
+    }
+
+    @Benchmark
+    public Prim.Result primEager() {
+        return Prim.findMST(compact, Prim.Mode.EAGER);
+    }
+
+    // Ортақ ForkJoin пулының барлық ағындарымен
+    @Benchmark
+    public Prim.Result primParallel() {
+        return ParallelPrim.findMST(compact);
+    }
+
+    // Ағынға бекітілген workspace: тұрақты күйде тек нәтиже жасалады
+    @Benchmark
+    public Prim.Result primLazyWorkspace() {
+        return Prim.findMST(compact, Prim.Mode.LAZY, MstWorkspace.forCurrentThread());
+    }
+
+    @Benchmark
+    public Kruskal.Result kruskalSequential() {
+        return Kruskal.findMST(compact, Kruskal.Mode.SEQUENTIAL);
+    }
+
+    @Benchmark
+    public Kruskal.Result kruskalSequentialWorkspace() {
+        return Kruskal.findMST(compact, Kruskal.Mode.SEQUENTIAL, MstWorkspace.forCurrentThread());
+    }
+
+    @Benchmark
+    public Kruskal.Result kruskalParallelSort() {
+        return Kruskal.findMST(compact, Kruskal.Mode.PARALLEL_SORT);
+    }
+
+    @Benchmark
+    public Kruskal.Result kruskalFilter() {
+        return Kruskal.findMST(compact, Kruskal.Mode.FILTER);
+    }
+
+    @Benchmark
+    public Kruskal.Result kruskalHeap() {
+        return Kruskal.findMST(compact, Kruskal.Mode.HEAP);
+    }
+
+    // Қойма әр шақыруда жаңадан жасалады: radix реті мен ранг графы өлшемге кіреді
+    @Benchmark
+    public WeightedTree kruskalDoubleStore() {
+        return Kruskal.findMST(doubleStore());
+    }
+
+    @Benchmark
+    public WeightedTree primEagerDoubleStore() {
+        return Prim.findMST(doubleStore(), Prim.Mode.EAGER);
+    }
+
+    private EdgeStore doubleStore() {
+        return new EdgeStore.DoubleWeights(compact.getVertexNames(), compact.getEdgeFrom(), compact.getEdgeTo(),
+                doubleWeights);
+    }
+
+    @Benchmark
+    public Boruvka.Result boruvka() {
+        return Boruvka.findMST(compact);
+    }
+}
@@ -0,0 +1,155 @@
+package algorithms;
+
+import graph.CompactGraph;
+import graph.Edge;
+import graph.Graph;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+public class Boruvka {
+    public static class Result {
+        public List<Edge> mstEdges;
+        public int totalCost;
+        public int operationsCount;
+        public double executionTimeMs;
+
+        // Ықшам граф нәтижелерінде: бастапқы қыр индекстері және long құн (null - тек mstEdges бар)
+        public int[] mstEdgeIds;
+        public long totalWeight;
+
+        public Result(List<Edge> mstEdges, int totalCost, int operationsCount, double executionTimeMs) {
+            this.mstEdges = mstEdges;
+            this.totalCost = totalCost;
+            this.totalWeight = totalCost;
+            this.operationsCount = operationsCount;
+            this.executionTimeMs = executionTimeMs;
+        }
+
+        // mstEdges - индекстердің жалқау көрінісі; totalCost int шегінен асса, Integer.MAX_VALUE болады
+        public Result(CompactGraph graph, int[] mstEdgeIds, long totalWeight, int operationsCount,
+                      double executionTimeMs) {
+            this(new EdgeIdList(graph, mstEdgeIds), (int) Math.min(totalWeight, Integer.MAX_VALUE),
+                    operationsCount, executionTimeMs);
+            this.mstEdgeIds = mstEdgeIds;
+            this.totalWeight = totalWeight;
+        }
+    }
+
+    // Осыдан кіші жиымдарда параллель ағындардың үстеме шығыны пайдадан көп
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+    private static final long NO_EDGE = Long.MAX_VALUE;
+
+    public static Result findMST(Graph graph) {
+        return findMST(graph.toCompact());
+    }
+
+    public static Result findMST(CompactGraph graph) {
+        long startTime = System.nanoTime();
+        LongAdder operations = new LongAdder();
+
+        int vertexCount = graph.getVertexCount();
+        if (vertexCount == 0) {
+            return new Result(graph, new int[0], 0, 0, 0);
+        }
+
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(vertexCount);
+        int[] treeEdges = new int[vertexCount - 1];
+        AtomicInteger treeSize = new AtomicInteger();
+        contract(graph, uf, allEdges(graph), treeEdges, treeSize, operations);
+
+        if (treeSize.get() != vertexCount - 1) {
+            return new Result(graph, new int[0], -1, Kruskal.saturate(operations.sum()), 0);
+        }
+
+        // Параллель қосу реті анықталмаған, сондықтан нәтижені (салмақ, индекс) бойынша реттейміз
+        int[] edgeWeight = graph.getEdgeWeight();
+        long[] keys = new long[treeSize.get()];
+        long totalWeight = 0;
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = LongHeap.pack(edgeWeight[treeEdges[i]], treeEdges[i]);
+            totalWeight += edgeWeight[treeEdges[i]];
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < keys.length; i++) {
+            treeEdges[i] = LongHeap.index(keys[i]);
+        }
+
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new Result(graph, treeEdges, totalWeight, Kruskal.saturate(operations.sum()), executionTimeMs);
+    }
+
+    static int[] allEdges(CompactGraph graph) {
+        int[] edgeFrom = graph.getEdgeFrom();
+        int[] edgeTo = graph.getEdgeTo();
+        return stream(graph.getEdgeCount()).filter(e -> edgeFrom[e] != edgeTo[e]).toArray();
+    }
+
+    // Borůvka кезеңдері: әр компоненттің ең арзан шығыс қыры параллель табылып, компоненттер біріктіріледі.
+    // uf пен treeEdges бұрын табылған ағаш бөліктерін қамтуы мүмкін (мысалы, параллель Prim-нен кейін).
+    static void contract(CompactGraph graph, ConcurrentUnionFind uf, int[] activeEdges,
+                         int[] treeEdges, AtomicInteger treeSize, LongAdder operations) {
+        int vertexCount = graph.getVertexCount();
+        int[] edgeFrom = graph.getEdgeFrom();
+        int[] edgeTo = graph.getEdgeTo();
+        int[] edgeWeight = graph.getEdgeWeight();
+        AtomicLongArray cheapest = new AtomicLongArray(vertexCount);
+
+        int[] active = filterCrossing(activeEdges, edgeFrom, edgeTo, uf);
+        while (active.length > 0) {
+            stream(vertexCount).forEach(v -> cheapest.set(v, NO_EDGE));
+
+            // 1-қадам: әр компонент түбірі үшін ең арзан шығыс қыр (тең салмақта кіші индекс)
+            int[] edges = active;
+            stream(edges.length).forEach(i -> {
+                int e = edges[i];
+                int rootFrom = uf.find(edgeFrom[e]);
+                int rootTo = uf.find(edgeTo[e]);
+                if (rootFrom != rootTo) {
+                    long key = LongHeap.pack(edgeWeight[e], e);
+                    updateMin(cheapest, rootFrom, key);
+                    updateMin(cheapest, rootTo, key);
+                }
+            });
+            operations.add(2L * edges.length);
+
+            // 2-қадам: таңдалған қырлар бойынша біріктіру; бір қырды екі компонент таңдаса, union бір рет қана сәтті
+            stream(vertexCount).forEach(v -> {
+                long key = cheapest.get(v);
+                if (key != NO_EDGE) {
+                    int e = LongHeap.index(key);
+                    if (uf.union(edgeFrom[e], edgeTo[e])) {
+                        treeEdges[treeSize.getAndIncrement()] = e;
+                        operations.increment();
+                    }
+                }
+            });
+
+            // 3-қадам: компонент ішіне түскен қырларды алып тастау
+            active = filterCrossing(active, edgeFrom, edgeTo, uf);
+        }
+    }
+
+    private static int[] filterCrossing(int[] edges, int[] edgeFrom, int[] edgeTo, ConcurrentUnionFind uf) {
+        return stream(edges.length)
+                .filter(i -> uf.find(edgeFrom[edges[i]]) != uf.find(edgeTo[edges[i]]))
+                .map(i -> edges[i])
+                .toArray();
+    }
+
+    private static void updateMin(AtomicLongArray cheapest, int index, long key) {
+        long current = cheapest.get(index);
+        while (key < current && !cheapest.compareAndSet(index, current, key)) {
+            current = cheapest.get(index);
+        }
+    }
+
+    // Үлкен диапазондар ортақ ForkJoin пулында параллель өңделеді
+    private static IntStream stream(int size) {
+        IntStream range = IntStream.range(0, size);
+        return size >= PARALLEL_THRESHOLD ? range.parallel() : range;
+    }
+}
@@ -0,0 +1,75 @@
+package algorithms;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Бірнеше ағыннан бір уақытта қолдануға болатын union-find (CAS негізінде, құлыпсыз)
+public class ConcurrentUnionFind {
+    private final AtomicIntegerArray parent;
+    private final AtomicInteger componentCount;
+
+    public ConcurrentUnionFind(int elementCount) {
+        parent = new AtomicIntegerArray(elementCount);
+        for (int i = 0; i < elementCount; i++) {
+            parent.set(i, i);
+        }
+        componentCount = new AtomicInteger(elementCount);
+    }
+
+    // Жолды екіге қысқарту CAS арқылы: сәтсіз CAS тек оңтайландыруды өткізіп жібереді
+    public int find(int node) {
+        while (true) {
+            int p = parent.get(node);
+            if (p == node) {
+                return node;
+            }
+            int grandParent = parent.get(p);
+            if (p != grandParent) {
+                parent.compareAndSet(node, p, grandParent);
+            }
+            node = grandParent;
+        }
+    }
+
+    // Түбірлер индекс бойынша реттеліп байланыстырылады (кішісі үлкеніне), сондықтан цикл пайда болмайды
+    public boolean union(int a, int b) {
+        while (true) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) {
+                return false;
+            }
+            if (rootA > rootB) {
+                int tmp = rootA;
+                rootA = rootB;
+                rootB = tmp;
+            }
+            if (parent.compareAndSet(rootA, rootA, rootB)) {
+                componentCount.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    public boolean connected(int a, int b) {
+        while (true) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) {
+                return true;
+            }
+            // rootA әлі де түбір болса, жауап тұрақты
+            if (parent.get(rootA) == rootA) {
+                return false;
+            }
+        }
+    }
+
+    public int getComponentCount() {
+        return componentCount.get();
+    }
+
+    public int getElementCount() {
+        return parent.length();
+    }
+}
@@ -0,0 +1,222 @@
+package algorithms;
+
+import java.util.Arrays;
+
+// Өзгермелі орман: ағаш қырларын қосу/алып тастау және екі төбе арасындағы жолдағы ең ауыр қырды табу.
+// Жол сұраулары орман бойынша DFS (компонент өлшеміне сызықты), жады O(V + ағаш қырлары).
+final class DynamicForest {
+    static final int NO_PATH = -1;
+
+    private int[][] adjacentVertex = new int[0][];
+    private int[][] adjacentEdge = new int[0][];
+    private long[][] adjacentKey = new long[0][];
+    private int[] degree = new int[0];
+
+    // DFS жұмыс жиымдары: stamp арқылы әр сұрауда тазалаудың қажеті жоқ
+    private int[] stamp = new int[0];
+    private int currentStamp;
+    private int[] parentVertex = new int[0];
+    private int[] parentEdge = new int[0];
+    private long[] parentKey = new long[0];
+    private int[] stack = new int[0];
+    private int[] otherSide = new int[0];
+    private int[] smallerSide;
+    private int smallerSideSize;
+
+    private long lastPathMaxKey;
+
+    void ensureVertex(int vertex) {
+        if (vertex < degree.length) {
+            return;
+        }
+        int capacity = Math.max(vertex + 1, degree.length * 2);
+        int oldCapacity = degree.length;
+        adjacentVertex = Arrays.copyOf(adjacentVertex, capacity);
+        adjacentEdge = Arrays.copyOf(adjacentEdge, capacity);
+        adjacentKey = Arrays.copyOf(adjacentKey, capacity);
+        for (int v = oldCapacity; v < capacity; v++) {
+            adjacentVertex[v] = new int[2];
+            adjacentEdge[v] = new int[2];
+            adjacentKey[v] = new long[2];
+        }
+        degree = Arrays.copyOf(degree, capacity);
+        stamp = Arrays.copyOf(stamp, capacity);
+        parentVertex = Arrays.copyOf(parentVertex, capacity);
+        parentEdge = Arrays.copyOf(parentEdge, capacity);
+        parentKey = Arrays.copyOf(parentKey, capacity);
+        stack = Arrays.copyOf(stack, capacity);
+        otherSide = Arrays.copyOf(otherSide, capacity);
+    }
+
+    void link(int edge, int u, int v, long key) {
+        addAdjacent(u, v, edge, key);
+        addAdjacent(v, u, edge, key);
+    }
+
+    void cut(int edge, int u, int v) {
+        removeAdjacent(u, edge);
+        removeAdjacent(v, edge);
+    }
+
+    void updateKey(int edge, int u, int v, long key) {
+        adjacentKey[u][indexOf(u, edge)] = key;
+        adjacentKey[v][indexOf(v, edge)] = key;
+    }
+
+    // u-дан v-ға дейінгі жолдағы кілті ең үлкен қыр; байланыспаса NO_PATH
+    int maxEdgeOnPath(int u, int v) {
+        if (!findPath(u, v)) {
+            return NO_PATH;
+        }
+
+        int maxEdge = NO_PATH;
+        long maxKey = Long.MIN_VALUE;
+        for (int x = v; x != u; x = parentVertex[x]) {
+            if (parentKey[x] > maxKey) {
+                maxKey = parentKey[x];
+                maxEdge = parentEdge[x];
+            }
+        }
+        lastPathMaxKey = maxKey;
+        return maxEdge;
+    }
+
+    // u-дан v-ға дейінгі жол қырлары edges жиымына жазылады (жол ұзындығы ағаш қырларының санынан аспайды);
+    // қайтарылатыны - қырлар саны, байланыспаса NO_PATH
+    int pathEdges(int u, int v, int[] edges) {
+        if (!findPath(u, v)) {
+            return NO_PATH;
+        }
+        int count = 0;
+        for (int x = v; x != u; x = parentVertex[x]) {
+            edges[count++] = parentEdge[x];
+        }
+        return count;
+    }
+
+    // u-дан DFS: v табылса, parent* жиымдары v-дан u-ға дейінгі жолды сақтайды (u == v болса false)
+    private boolean findPath(int u, int v) {
+        int mark = nextStamp();
+        stamp[u] = mark;
+        parentVertex[u] = -1;
+        int top = 0;
+        stack[top++] = u;
+
+        boolean found = u == v;
+        while (top > 0 && !found) {
+            int current = stack[--top];
+            for (int i = 0; i < degree[current]; i++) {
+                int next = adjacentVertex[current][i];
+                if (stamp[next] == mark) {
+                    continue;
+                }
+                stamp[next] = mark;
+                parentVertex[next] = current;
+                parentEdge[next] = adjacentEdge[current][i];
+                parentKey[next] = adjacentKey[current][i];
+                if (next == v) {
+                    found = true;
+                    break;
+                }
+                stack[top++] = next;
+            }
+        }
+        return found && u != v;
+    }
+
+    long lastPathMaxKey() {
+        return lastPathMaxKey;
+    }
+
+    boolean connected(int u, int v) {
+        return u == v || maxEdgeOnPath(u, v) != NO_PATH;
+    }
+
+    // Кесілген қырдың u және v жақтары кезекпен BFS-пен аралады; біреуі біткен бойда тоқтайды, сондықтан құны
+    // O(кіші жақ). Кіші жақтың төбелері smallerSide()-та, белгісі isMarked үшін қайтарылады.
+    int markSmallerSide(int u, int v) {
+        int markU = nextStamp();
+        int markV = nextStamp();
+        stamp[u] = markU;
+        stamp[v] = markV;
+        stack[0] = u;
+        otherSide[0] = v;
+        int headU = 0;
+        int sizeU = 1;
+        int headV = 0;
+        int sizeV = 1;
+        while (headU < sizeU && headV < sizeV) {
+            sizeU = visit(stack[headU++], markU, stack, sizeU);
+            sizeV = visit(otherSide[headV++], markV, otherSide, sizeV);
+        }
+        if (headU == sizeU) {
+            smallerSide = stack;
+            smallerSideSize = sizeU;
+            return markU;
+        }
+        smallerSide = otherSide;
+        smallerSideSize = sizeV;
+        return markV;
+    }
+
+    int[] smallerSide() {
+        return smallerSide;
+    }
+
+    int smallerSideSize() {
+        return smallerSideSize;
+    }
+
+    private int visit(int current, int mark, int[] queue, int size) {
+        for (int i = 0; i < degree[current]; i++) {
+            int next = adjacentVertex[current][i];
+            if (stamp[next] != mark) {
+                stamp[next] = mark;
+                queue[size++] = next;
+            }
+        }
+        return size;
+    }
+
+    boolean isMarked(int vertex, int mark) {
+        return vertex < stamp.length && stamp[vertex] == mark;
+    }
+
+    private int nextStamp() {
+        if (++currentStamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            currentStamp = 1;
+        }
+        return currentStamp;
+    }
+
+    private void addAdjacent(int vertex, int neighbour, int edge, long key) {
+        int d = degree[vertex];
+        if (d == adjacentVertex[vertex].length) {
+            adjacentVertex[vertex] = Arrays.copyOf(adjacentVertex[vertex], d * 2);
+            adjacentEdge[vertex] = Arrays.copyOf(adjacentEdge[vertex], d * 2);
+            adjacentKey[vertex] = Arrays.copyOf(adjacentKey[vertex], d * 2);
+        }
+        adjacentVertex[vertex][d] = neighbour;
+        adjacentEdge[vertex][d] = edge;
+        adjacentKey[vertex][d] = key;
+        degree[vertex] = d + 1;
+    }
+
+    private void removeAdjacent(int vertex, int edge) {
+        int i = indexOf(vertex, edge);
+        int last = --degree[vertex];
+        adjacentVertex[vertex][i] = adjacentVertex[vertex][last];
+        adjacentEdge[vertex][i] = adjacentEdge[vertex][last];
+        adjacentKey[vertex][i] = adjacentKey[vertex][last];
+    }
+
+    private int indexOf(int vertex, int edge) {
+        for (int i = 0; i < degree[vertex]; i++) {
+            if (adjacentEdge[vertex][i] == edge) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Edge " + edge + " is not adjacent to vertex " + vertex);
+    }
+}
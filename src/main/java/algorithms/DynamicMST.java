@@ -0,0 +1,449 @@
+package algorithms;
+
+import graph.CompactGraph;
+import graph.Edge;
+import graph.Graph;
+
+import java.util.*;
+
+// MST-ті қырларды қосу/жою/салмағын өзгерту оқиғалары бойынша толық қайта есептемей жаңартады.
+// Қос төбе арасында бір ғана қыр сақталады: бар жұпқа INSERT салмақты өзгертеді.
+// Жоқ қырға DELETE мен UPDATE еленбейді (UPDATE жаңа қыр қоспайды).
+// Граф байланыспаған болса, ең кіші қаңқа орман сақталады.
+// Құны: INSERT және жеңілдеген қыр - ағаш жолы бойынша DFS, O(компонент өлшемі). Ағаш қырын жою немесе ауырлату -
+// кесудің кіші жағын аралап, сол жақтың төбелеріне түсетін ағаштан тыс қырларды ғана қарау: O(кіші жақ төбелері
+// + олардың ағаштан тыс дәрежелері). Ең нашар жағдайда (тең бөліктер, тығыз граф) бұл әлі де O(V + E).
+public class DynamicMST {
+    public enum EventType {
+        INSERT,
+        DELETE,
+        UPDATE
+    }
+
+    public static class Event {
+        public final EventType type;
+        public final String from;
+        public final String to;
+        public final int weight;
+
+        public Event(EventType type, String from, String to, int weight) {
+            this.type = type;
+            this.from = from;
+            this.to = to;
+            this.weight = weight;
+        }
+
+        public static Event insert(String from, String to, int weight) {
+            return new Event(EventType.INSERT, from, to, weight);
+        }
+
+        public static Event delete(String from, String to) {
+            return new Event(EventType.DELETE, from, to, 0);
+        }
+
+        public static Event update(String from, String to, int weight) {
+            return new Event(EventType.UPDATE, from, to, weight);
+        }
+    }
+
+    private final Map<String, Integer> vertexIds = new HashMap<>();
+    private final List<String> vertexNames = new ArrayList<>();
+    private final Map<Long, Integer> edgeByPair = new HashMap<>();
+    private final DynamicForest forest = new DynamicForest();
+
+    // Қыр кестесі: id қосылу ретімен беріледі және (салмақ, id) кілтінде тең салмақтарды ажыратады
+    private int[] edgeFrom = new int[16];
+    private int[] edgeTo = new int[16];
+    private int[] edgeWeight = new int[16];
+    private boolean[] inTree = new boolean[16];
+    private int edgeCount;
+
+    private final IntSet treeEdges = new IntSet();
+    private final IntSet nonTreeEdges = new IntSet();
+    // Әр төбеге түсетін ағаштан тыс қырлар; slotAt* - қырдың ұштарының тізімдеріндегі орны
+    private int[][] incident = new int[0][];
+    private int[] incidentCount = new int[0];
+    private int[] slotAtFrom = new int[16];
+    private int[] slotAtTo = new int[16];
+    private long totalCost;
+    private long operations;
+
+    // Бар MST нәтижесінен бастау; ол қаңқа ағаш болмаса (мысалы, -1), орман осы жерде құрылады
+    public DynamicMST(Graph graph, Kruskal.Result initial) {
+        List<Edge> edges = graph.getEdges();
+        for (String node : graph.getNodes()) {
+            vertexId(node);
+        }
+        for (Edge edge : edges) {
+            addEdgeRecord(edge.from, edge.to, edge.weight);
+        }
+
+        if (initial != null && initial.totalCost >= 0 && initial.mstEdges.size() == vertexNames.size() - 1) {
+            for (Edge edge : initial.mstEdges) {
+                Integer id = findEdge(edge.from, edge.to);
+                if (id == null || inTree[id]) {
+                    throw new IllegalArgumentException("MST edge is not in the graph or repeats: " + edge);
+                }
+                removeNonTree(id);
+                addTreeEdge(id);
+            }
+        } else {
+            buildForest();
+        }
+    }
+
+    public DynamicMST(Graph graph) {
+        this(graph, null);
+    }
+
+    public void applyAll(Iterable<Event> events) {
+        for (Event event : events) {
+            apply(event);
+        }
+    }
+
+    public void apply(Event event) {
+        switch (event.type) {
+            case INSERT:
+                insertEdge(event.from, event.to, event.weight);
+                break;
+            case DELETE:
+                deleteEdge(event.from, event.to);
+                break;
+            case UPDATE:
+                updateWeight(event.from, event.to, event.weight);
+                break;
+        }
+    }
+
+    // Цикл қасиеті: жаңа қыр ағаштағы жолдың ең ауыр қырынан жеңіл болса, сол қырды ауыстырады
+    public void insertEdge(String from, String to, int weight) {
+        int u = vertexId(from);
+        int v = vertexId(to);
+        if (u == v) {
+            return;
+        }
+        Integer existing = edgeByPair.get(pairKey(u, v));
+        if (existing != null) {
+            updateWeight(existing, weight);
+            return;
+        }
+        int id = addEdgeRecord(from, to, weight);
+        removeNonTree(id);
+        offerEdge(id);
+    }
+
+    // Ағаш қыры жойылса, екі бөлікті қосатын ең жеңіл ағаштан тыс қыр ізделеді
+    public void deleteEdge(String from, String to) {
+        Integer id = findEdge(from, to);
+        if (id == null) {
+            return;
+        }
+        edgeByPair.remove(pairKey(edgeFrom[id], edgeTo[id]));
+        if (inTree[id]) {
+            removeTreeEdge(id);
+            reconnect(id, -1);
+        } else {
+            removeNonTree(id);
+        }
+    }
+
+    public void updateWeight(String from, String to, int weight) {
+        Integer id = findEdge(from, to);
+        if (id == null) {
+            return;
+        }
+        updateWeight(id, weight);
+    }
+
+    private void updateWeight(int id, int weight) {
+        int oldWeight = edgeWeight[id];
+        if (weight == oldWeight) {
+            return;
+        }
+        if (inTree[id]) {
+            if (weight < oldWeight) {
+                // Ағаш қыры жеңілдесе, MST өзгермейді
+                totalCost += weight - oldWeight;
+                edgeWeight[id] = weight;
+                forest.updateKey(id, edgeFrom[id], edgeTo[id], key(id));
+            } else {
+                // Ауырласа, қырдың өзі де ауыстырушы үміткер болып қалады
+                removeTreeEdge(id);
+                edgeWeight[id] = weight;
+                reconnect(id, id);
+            }
+        } else {
+            edgeWeight[id] = weight;
+            if (weight < oldWeight) {
+                removeNonTree(id);
+                offerEdge(id);
+            }
+        }
+    }
+
+    private void offerEdge(int id) {
+        int u = edgeFrom[id];
+        int v = edgeTo[id];
+        int heaviest = forest.maxEdgeOnPath(u, v);
+        operations++;
+        if (heaviest == DynamicForest.NO_PATH) {
+            addTreeEdge(id);
+        } else if (key(id) < forest.lastPathMaxKey()) {
+            removeTreeEdge(heaviest);
+            addNonTree(heaviest);
+            addTreeEdge(id);
+        } else {
+            addNonTree(id);
+        }
+    }
+
+    // removed қыры кесілгеннен кейін бөліктерді қосатын ең жеңіл қырды табу; candidate >= 0 - қосымша үміткер.
+    // Кесуді кесіп өтетін әр қырдың бір ұшы кіші жақта, сондықтан тек сол жақтың қырлары қаралады.
+    private void reconnect(int removed, int candidate) {
+        int mark = forest.markSmallerSide(edgeFrom[removed], edgeTo[removed]);
+        int[] side = forest.smallerSide();
+        int best = -1;
+        long bestKey = Long.MAX_VALUE;
+        for (int index = 0; index < forest.smallerSideSize(); index++) {
+            int vertex = side[index];
+            operations++;
+            for (int i = 0; i < incidentCount[vertex]; i++) {
+                int id = incident[vertex][i];
+                int other = edgeFrom[id] == vertex ? edgeTo[id] : edgeFrom[id];
+                operations++;
+                if (!forest.isMarked(other, mark) && key(id) < bestKey) {
+                    best = id;
+                    bestKey = key(id);
+                }
+            }
+        }
+        if (candidate >= 0 && key(candidate) < bestKey) {
+            best = candidate;
+        } else if (candidate >= 0) {
+            addNonTree(candidate);
+        }
+        if (best >= 0) {
+            removeNonTree(best);
+            addTreeEdge(best);
+        }
+    }
+
+    // Бастапқы нәтиже жарамсыз болса: (салмақ, id) бойынша Kruskal арқылы орман құру
+    private void buildForest() {
+        long[] keys = new long[edgeCount];
+        int count = 0;
+        for (int i = 0; i < nonTreeEdges.size(); i++) {
+            keys[count++] = key(nonTreeEdges.get(i));
+        }
+        Arrays.sort(keys, 0, count);
+        IntUnionFind uf = new IntUnionFind(vertexNames.size());
+        for (int i = 0; i < count; i++) {
+            int id = LongHeap.index(keys[i]);
+            if (uf.union(edgeFrom[id], edgeTo[id])) {
+                removeNonTree(id);
+                addTreeEdge(id);
+            }
+        }
+    }
+
+    private void addTreeEdge(int id) {
+        inTree[id] = true;
+        treeEdges.add(id);
+        totalCost += edgeWeight[id];
+        forest.link(id, edgeFrom[id], edgeTo[id], key(id));
+    }
+
+    private void removeTreeEdge(int id) {
+        inTree[id] = false;
+        treeEdges.remove(id);
+        totalCost -= edgeWeight[id];
+        forest.cut(id, edgeFrom[id], edgeTo[id]);
+    }
+
+    private void addNonTree(int id) {
+        nonTreeEdges.add(id);
+        slotAtFrom[id] = addIncident(edgeFrom[id], id);
+        slotAtTo[id] = addIncident(edgeTo[id], id);
+    }
+
+    private void removeNonTree(int id) {
+        if (!nonTreeEdges.contains(id)) {
+            return;
+        }
+        nonTreeEdges.remove(id);
+        removeIncident(edgeFrom[id], slotAtFrom[id]);
+        removeIncident(edgeTo[id], slotAtTo[id]);
+    }
+
+    private int addIncident(int vertex, int id) {
+        int count = incidentCount[vertex];
+        if (count == incident[vertex].length) {
+            incident[vertex] = Arrays.copyOf(incident[vertex], Math.max(4, count * 2));
+        }
+        incident[vertex][count] = id;
+        incidentCount[vertex] = count + 1;
+        return count;
+    }
+
+    // Соңғы қыр босаған орынға көшіріледі, оның осы төбедегі орны жаңартылады
+    private void removeIncident(int vertex, int slot) {
+        int last = --incidentCount[vertex];
+        int moved = incident[vertex][last];
+        incident[vertex][slot] = moved;
+        if (edgeFrom[moved] == vertex) {
+            slotAtFrom[moved] = slot;
+        } else {
+            slotAtTo[moved] = slot;
+        }
+    }
+
+    // Жұп үшін бұрын қыр болса, кішірек салмақ сақталады (параллель қырлар MST-ке әсер етпейді)
+    private int addEdgeRecord(String from, String to, int weight) {
+        int u = vertexId(from);
+        int v = vertexId(to);
+        if (u == v) {
+            return -1;
+        }
+        Integer existing = edgeByPair.get(pairKey(u, v));
+        if (existing != null) {
+            edgeWeight[existing] = Math.min(edgeWeight[existing], weight);
+            return existing;
+        }
+        if (edgeCount == edgeFrom.length) {
+            int capacity = edgeCount * 2;
+            edgeFrom = Arrays.copyOf(edgeFrom, capacity);
+            edgeTo = Arrays.copyOf(edgeTo, capacity);
+            edgeWeight = Arrays.copyOf(edgeWeight, capacity);
+            inTree = Arrays.copyOf(inTree, capacity);
+            slotAtFrom = Arrays.copyOf(slotAtFrom, capacity);
+            slotAtTo = Arrays.copyOf(slotAtTo, capacity);
+        }
+        int id = edgeCount++;
+        edgeFrom[id] = u;
+        edgeTo[id] = v;
+        edgeWeight[id] = weight;
+        edgeByPair.put(pairKey(u, v), id);
+        addNonTree(id);
+        return id;
+    }
+
+    private Integer findEdge(String from, String to) {
+        Integer u = vertexIds.get(from);
+        Integer v = vertexIds.get(to);
+        if (u == null || v == null) {
+            return null;
+        }
+        return edgeByPair.get(pairKey(u, v));
+    }
+
+    private int vertexId(String name) {
+        Integer id = vertexIds.get(name);
+        if (id == null) {
+            id = vertexNames.size();
+            vertexIds.put(name, id);
+            vertexNames.add(name);
+            forest.ensureVertex(id);
+            if (id == incidentCount.length) {
+                int capacity = Math.max(16, id * 2);
+                incident = Arrays.copyOf(incident, capacity);
+                incidentCount = Arrays.copyOf(incidentCount, capacity);
+                for (int v = id; v < capacity; v++) {
+                    incident[v] = new int[0];
+                }
+            }
+        }
+        return id;
+    }
+
+    private long key(int id) {
+        return LongHeap.pack(edgeWeight[id], id);
+    }
+
+    private static long pairKey(int u, int v) {
+        return ((long) Math.min(u, v) << 32) | Math.max(u, v);
+    }
+
+    public List<Edge> getMstEdges() {
+        List<Edge> edges = new ArrayList<>(treeEdges.size());
+        for (int i = 0; i < treeEdges.size(); i++) {
+            int id = treeEdges.get(i);
+            edges.add(new Edge(vertexNames.get(edgeFrom[id]), vertexNames.get(edgeTo[id]), edgeWeight[id]));
+        }
+        return edges;
+    }
+
+    // Ағымдағы графтың барлық қырлары (тексеру немесе толық қайта есептеу үшін)
+    public Graph toGraph() {
+        List<Edge> edges = new ArrayList<>(treeEdges.size() + nonTreeEdges.size());
+        edges.addAll(getMstEdges());
+        for (int i = 0; i < nonTreeEdges.size(); i++) {
+            int id = nonTreeEdges.get(i);
+            edges.add(new Edge(vertexNames.get(edgeFrom[id]), vertexNames.get(edgeTo[id]), edgeWeight[id]));
+        }
+        return new Graph(vertexNames, edges);
+    }
+
+    public CompactGraph toCompact() {
+        return toGraph().toCompact();
+    }
+
+    public long getTotalCost() {
+        return totalCost;
+    }
+
+    public boolean isSpanningTree() {
+        return treeEdges.size() == vertexNames.size() - 1;
+    }
+
+    public int getVertexCount() {
+        return vertexNames.size();
+    }
+
+    public long getOperationsCount() {
+        return operations;
+    }
+
+    // O(1) қосу/жою мүмкіндігі бар int жиыны (орынды ауыстыру арқылы жою)
+    private static final class IntSet {
+        private int[] values = new int[16];
+        private int[] position = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (value >= position.length) {
+                position = Arrays.copyOf(position, Math.max(value + 1, position.length * 2));
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            position[value] = size;
+            values[size++] = value;
+        }
+
+        void remove(int value) {
+            if (value < 0 || value >= position.length) {
+                return;
+            }
+            int index = position[value];
+            if (index >= size || values[index] != value) {
+                return;
+            }
+            int last = values[--size];
+            values[index] = last;
+            position[last] = index;
+        }
+
+        boolean contains(int value) {
+            return value >= 0 && value < position.length && position[value] < size && values[position[value]] == value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
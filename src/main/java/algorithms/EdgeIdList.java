@@ -0,0 +1,28 @@
+package algorithms;
+
+import graph.CompactGraph;
+import graph.Edge;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+// Қыр индекстерінің үстіндегі тек оқуға арналған көрініс: Edge объектісі get() шақырылғанда ғана жасалады
+final class EdgeIdList extends AbstractList<Edge> implements RandomAccess {
+    private final CompactGraph graph;
+    private final int[] edgeIds;
+
+    EdgeIdList(CompactGraph graph, int[] edgeIds) {
+        this.graph = graph;
+        this.edgeIds = edgeIds;
+    }
+
+    @Override
+    public Edge get(int index) {
+        return graph.toEdge(edgeIds[index]);
+    }
+
+    @Override
+    public int size() {
+        return edgeIds.length;
+    }
+}
@@ -0,0 +1,327 @@
+package algorithms;
+
+import graph.Edge;
+import graph.GraphGenerator;
+import graph.io.EdgeInput;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+// Жадқа сыймайтын қырлар жиынына арналған Kruskal (сыртқы жадта сұрыптау):
+//   1. Қырлар runEdges өлшемді бөліктермен оқылып, әр бөлік (салмақ, индекс) бойынша сұрыпталып уақытша файлға жазылады.
+//   2. Бөліктер k-жолды біріктіру арқылы бір реттелген ағын ретінде оқылады және union-find-тан өтеді.
+// Жадта тек O(V) күй (union-find, ағаш қырлары) және бір бөліктің буфері тұрады. Реттеу Kruskal.findMST(CompactGraph)
+// -пен бірдей, сондықтан нәтиже де бірдей. Барлық қырлар бір бөлікке сыйса, файлға ештеңе жазылмайды.
+public class ExternalKruskal {
+    public static final int DEFAULT_RUN_EDGES = 1 << 22;
+    private static final int RECORD_BYTES = Integer.BYTES + Long.BYTES + 2 * Integer.BYTES; // weight, index, from, to
+    private static final int IO_BUFFER_BYTES = 1 << 16;
+
+    public static class Result {
+        public List<Edge> mstEdges;
+        public long totalCost;
+        public int vertexCount;
+        public long edgeCount;
+        public long edgesExamined;
+        public int runCount;
+        public long inputBytesRead;
+        public long spillBytesWritten;
+        public long spillBytesRead;
+        public double executionTimeMs;
+
+        public Result(List<Edge> mstEdges, long totalCost, int vertexCount, long edgeCount, long edgesExamined,
+                      int runCount, long inputBytesRead, long spillBytesWritten, long spillBytesRead,
+                      double executionTimeMs) {
+            this.mstEdges = mstEdges;
+            this.totalCost = totalCost;
+            this.vertexCount = vertexCount;
+            this.edgeCount = edgeCount;
+            this.edgesExamined = edgesExamined;
+            this.runCount = runCount;
+            this.inputBytesRead = inputBytesRead;
+            this.spillBytesWritten = spillBytesWritten;
+            this.spillBytesRead = spillBytesRead;
+            this.executionTimeMs = executionTimeMs;
+        }
+    }
+
+    public static Result findMST(EdgeInput input, Path tempDirectory) throws IOException {
+        return findMST(input, tempDirectory, DEFAULT_RUN_EDGES);
+    }
+
+    public static Result findMST(EdgeInput input, Path tempDirectory, int runEdges) throws IOException {
+        if (runEdges < 1) {
+            throw new IllegalArgumentException("Run size must be positive: " + runEdges);
+        }
+        long startTime = System.nanoTime();
+
+        RunBuilder runs = new RunBuilder(tempDirectory, runEdges);
+        List<Cursor> cursors = new ArrayList<>();
+        try {
+            input.readEdges(runs);
+            runs.finish(cursors);
+
+            int vertexCount = input.getVertexCount();
+            IntUnionFind uf = new IntUnionFind(vertexCount);
+            int treeCapacity = Math.max(vertexCount - 1, 0);
+            int[] treeFrom = new int[treeCapacity];
+            int[] treeTo = new int[treeCapacity];
+            int[] treeWeight = new int[treeCapacity];
+            int treeSize = 0;
+            long totalCost = 0;
+            long examined = 0;
+
+            // k-жолды біріктіру: кезекте әр бөліктің ағымдағы жазбасы
+            PriorityQueue<Cursor> merge = new PriorityQueue<>(Math.max(cursors.size(), 1));
+            for (Cursor cursor : cursors) {
+                if (cursor.advance()) {
+                    merge.add(cursor);
+                }
+            }
+            while (!merge.isEmpty() && treeSize < treeCapacity) {
+                Cursor cursor = merge.poll();
+                examined++;
+                if (uf.union(cursor.from, cursor.to)) {
+                    treeFrom[treeSize] = cursor.from;
+                    treeTo[treeSize] = cursor.to;
+                    treeWeight[treeSize] = cursor.weight;
+                    treeSize++;
+                    totalCost += cursor.weight;
+                }
+                if (cursor.advance()) {
+                    merge.add(cursor);
+                }
+            }
+
+            long spillBytesRead = 0;
+            for (Cursor cursor : cursors) {
+                spillBytesRead += cursor.bytesRead();
+            }
+
+            double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+            if (vertexCount > 0 && uf.getComponentCount() != 1) {
+                return new Result(new ArrayList<>(), -1, vertexCount, runs.edgeCount, examined, runs.runCount,
+                        input.getBytesRead(), runs.bytesWritten, spillBytesRead, 0);
+            }
+            return new Result(new TreeEdgeList(input, treeFrom, treeTo, treeWeight), totalCost, vertexCount,
+                    runs.edgeCount, examined, runs.runCount, input.getBytesRead(), runs.bytesWritten,
+                    spillBytesRead, executionTimeMs);
+        } finally {
+            // Ағаш ерте толса, бөліктер соңына дейін оқылмайды: файлдар жабылғаннан кейін ғана жойылады
+            try {
+                for (Cursor cursor : cursors) {
+                    cursor.close();
+                }
+            } finally {
+                runs.deleteFiles();
+            }
+        }
+    }
+
+    // Кіріс қырларын буферге жинап, толған сайын сұрыпталған бөлікті файлға жазады
+    private static final class RunBuilder implements GraphGenerator.EdgeSink {
+        private static final int INITIAL_EDGES = 1 << 10;
+
+        private final Path tempDirectory;
+        private final int runEdges;
+        // Буферлер runEdges-ке дейін екі еселеніп өседі: кішкентай граф бүкіл бөлік көлемін алмайды
+        private int[] from;
+        private int[] to;
+        private int[] weight;
+        private long[] keys;
+        private int size;
+        private long baseIndex;
+        private final List<Path> files = new ArrayList<>();
+        long edgeCount;
+        long bytesWritten;
+        int runCount;
+
+        RunBuilder(Path tempDirectory, int runEdges) {
+            this.tempDirectory = tempDirectory;
+            this.runEdges = runEdges;
+            int capacity = Math.min(runEdges, INITIAL_EDGES);
+            from = new int[capacity];
+            to = new int[capacity];
+            weight = new int[capacity];
+            keys = new long[capacity];
+        }
+
+        @Override
+        public void accept(int u, int v, int w) throws IOException {
+            if (size == runEdges) {
+                spill();
+            } else if (size == from.length) {
+                int capacity = (int) Math.min(runEdges, 2L * size);
+                from = Arrays.copyOf(from, capacity);
+                to = Arrays.copyOf(to, capacity);
+                weight = Arrays.copyOf(weight, capacity);
+                keys = new long[capacity];
+            }
+            from[size] = u;
+            to[size] = v;
+            weight[size] = w;
+            size++;
+            edgeCount++;
+        }
+
+        private void sortBuffer() {
+            for (int i = 0; i < size; i++) {
+                keys[i] = LongHeap.pack(weight[i], i);
+            }
+            Arrays.sort(keys, 0, size);
+        }
+
+        private void spill() throws IOException {
+            sortBuffer();
+            Path file = Files.createTempFile(tempDirectory, "mst-run-", ".bin");
+            files.add(file);
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(file), IO_BUFFER_BYTES))) {
+                for (int i = 0; i < size; i++) {
+                    int e = LongHeap.index(keys[i]);
+                    out.writeInt(weight[e]);
+                    out.writeLong(baseIndex + e);
+                    out.writeInt(from[e]);
+                    out.writeInt(to[e]);
+                }
+            }
+            bytesWritten += (long) size * RECORD_BYTES;
+            baseIndex += size;
+            size = 0;
+            runCount++;
+        }
+
+        // Соңғы бөлік: алдыңғылары файлда болса, ол да файлға жазылады, әйтпесе жадта қалады.
+        // Ашылған курсорлар бірден cursors-қа қосылады, сондықтан қате болса да шақырушы оларды жаба алады.
+        void finish(List<Cursor> cursors) throws IOException {
+            if (files.isEmpty()) {
+                sortBuffer();
+                runCount = size > 0 ? 1 : 0;
+                cursors.add(new MemoryCursor(this));
+                return;
+            }
+            if (size > 0) {
+                spill();
+            }
+            for (Path file : files) {
+                cursors.add(new FileCursor(file));
+            }
+        }
+
+        void deleteFiles() throws IOException {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    // Бөліктің ағымдағы жазбасы; (weight, index) бойынша реттеледі
+    private abstract static class Cursor implements Comparable<Cursor>, Closeable {
+        int weight;
+        long index;
+        int from;
+        int to;
+
+        abstract boolean advance() throws IOException;
+
+        abstract long bytesRead();
+
+        @Override
+        public int compareTo(Cursor other) {
+            int byWeight = Integer.compare(weight, other.weight);
+            return byWeight != 0 ? byWeight : Long.compare(index, other.index);
+        }
+    }
+
+    private static final class MemoryCursor extends Cursor {
+        private final RunBuilder run;
+        private int position;
+
+        MemoryCursor(RunBuilder run) {
+            this.run = run;
+        }
+
+        @Override
+        boolean advance() {
+            if (position == run.size) {
+                return false;
+            }
+            int e = LongHeap.index(run.keys[position++]);
+            weight = run.weight[e];
+            index = e;
+            from = run.from[e];
+            to = run.to[e];
+            return true;
+        }
+
+        @Override
+        long bytesRead() {
+            return 0;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class FileCursor extends Cursor {
+        private final DataInputStream in;
+        private final long records;
+        private long consumed;
+
+        FileCursor(Path file) throws IOException {
+            this.records = Files.size(file) / RECORD_BYTES;
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), IO_BUFFER_BYTES));
+        }
+
+        @Override
+        boolean advance() throws IOException {
+            if (consumed == records) {
+                return false;
+            }
+            weight = in.readInt();
+            index = in.readLong();
+            from = in.readInt();
+            to = in.readInt();
+            consumed++;
+            return true;
+        }
+
+        @Override
+        long bytesRead() {
+            return consumed * RECORD_BYTES;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    // Ағаш қырларының жиымдары үстіндегі жалқау көрініс: Edge тек оқылғанда жасалады
+    private static final class TreeEdgeList extends AbstractList<Edge> implements RandomAccess {
+        private final EdgeInput input;
+        private final int[] from;
+        private final int[] to;
+        private final int[] weight;
+
+        TreeEdgeList(EdgeInput input, int[] from, int[] to, int[] weight) {
+            this.input = input;
+            this.from = from;
+            this.to = to;
+            this.weight = weight;
+        }
+
+        @Override
+        public Edge get(int index) {
+            return new Edge(input.getVertexName(from[index]), input.getVertexName(to[index]), weight[index]);
+        }
+
+        @Override
+        public int size() {
+            return from.length;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package algorithms;
+
+import java.util.Arrays;
+
+// Төбе идентификаторларына арналған индекстелген d-ary min-heap (decrease-key қолдауымен)
+public class IndexedDaryHeap {
+    private final int arity;
+    private final int[] heap;      // heap[i] -> элемент
+    private final int[] position;  // position[item] -> heap ішіндегі орны, жоқ болса -1
+    private final long[] keys;     // keys[item] -> элементтің кілті
+    private int size;
+    private MstMetrics metrics = MstMetrics.NOOP;
+
+    public IndexedDaryHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        }
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new long[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public int capacity() {
+        return heap.length;
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    // Қалған элементтерді алып тастау: тек heap ішіндегілердің орны тазаланады, O(size)
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    public void setMetrics(MstMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int item) {
+        return position[item] >= 0;
+    }
+
+    public long keyOf(int item) {
+        return keys[item];
+    }
+
+    public void insert(int item, long key) {
+        keys[item] = key;
+        heap[size] = item;
+        position[item] = size;
+        siftUp(size++);
+        metrics.heapPush();
+    }
+
+    public void decreaseKey(int item, long key) {
+        keys[item] = key;
+        siftUp(position[item]);
+        metrics.heapDecreaseKey();
+    }
+
+    // Элемент жоқ болса қосады, бар болса кілті кішірейген жағдайда ғана жаңартады
+    public boolean insertOrDecrease(int item, long key) {
+        if (position[item] < 0) {
+            insert(item, key);
+            return true;
+        }
+        metrics.comparisons(1);
+        if (key < keys[item]) {
+            decreaseKey(item, key);
+            return true;
+        }
+        return false;
+    }
+
+    public int peekMin() {
+        return heap[0];
+    }
+
+    public int pollMin() {
+        int min = heap[0];
+        position[min] = -1;
+        if (--size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+        metrics.heapPop();
+        return min;
+    }
+
+    private void siftUp(int i) {
+        int item = heap[i];
+        long key = keys[item];
+        int compared = 0;
+        while (i > 0) {
+            int parent = (i - 1) / arity;
+            int parentItem = heap[parent];
+            compared++;
+            if (keys[parentItem] <= key) {
+                break;
+            }
+            heap[i] = parentItem;
+            position[parentItem] = i;
+            i = parent;
+        }
+        heap[i] = item;
+        position[item] = i;
+        metrics.comparisons(compared);
+    }
+
+    private void siftDown(int i) {
+        int item = heap[i];
+        long key = keys[item];
+        int compared = 0;
+        while (true) {
+            int firstChild = i * arity + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + arity, size);
+            int best = firstChild;
+            long bestKey = keys[heap[firstChild]];
+            for (int c = firstChild + 1; c < lastChild; c++) {
+                long childKey = keys[heap[c]];
+                if (childKey < bestKey) {
+                    best = c;
+                    bestKey = childKey;
+                }
+            }
+            compared += lastChild - firstChild;
+            if (key <= bestKey) {
+                break;
+            }
+            heap[i] = heap[best];
+            position[heap[i]] = i;
+            i = best;
+        }
+        heap[i] = item;
+        position[item] = i;
+        metrics.comparisons(compared);
+    }
+}
@@ -0,0 +1,102 @@
+package algorithms;
+
+import java.util.Arrays;
+
+// Тығыз int идентификаторларға арналған union-find: жолды екіге қысқарту және өлшем бойынша біріктіру
+public class IntUnionFind {
+    private int[] parent;
+    private int[] size;
+    private int elementCount;
+    private int componentCount;
+    private MstMetrics metrics = MstMetrics.NOOP;
+
+    public IntUnionFind(int elementCount) {
+        parent = new int[elementCount];
+        size = new int[elementCount];
+        reset(elementCount);
+    }
+
+    // Қайта қолдану: алғашқы elementCount элемент жеке жиындарға қайтарылады, жиымдар қажет болса ғана өседі
+    public void reset(int elementCount) {
+        if (parent.length < elementCount) {
+            parent = new int[elementCount];
+            size = new int[elementCount];
+        }
+        for (int i = 0; i < elementCount; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+        this.elementCount = elementCount;
+        componentCount = elementCount;
+    }
+
+    // Жаңа элементтерді жеке жиындар ретінде қосу (бар жиындар сақталады)
+    public void grow(int elementCount) {
+        if (elementCount <= this.elementCount) {
+            return;
+        }
+        if (parent.length < elementCount) {
+            int capacity = Math.max(elementCount, parent.length * 2);
+            parent = Arrays.copyOf(parent, capacity);
+            size = Arrays.copyOf(size, capacity);
+        }
+        for (int i = this.elementCount; i < elementCount; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+        componentCount += elementCount - this.elementCount;
+        this.elementCount = elementCount;
+    }
+
+    public void setMetrics(MstMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    // Итерациялық find: рекурсия жоқ, сондықтан ұзын тізбектерде стек толмайды
+    public int find(int node) {
+        int steps = 0;
+        while (parent[node] != node) {
+            parent[node] = parent[parent[node]];
+            node = parent[node];
+            steps++;
+        }
+        metrics.find(steps);
+        return node;
+    }
+
+    // Екі жиынды біріктіреді; олар бұрыннан бір жиында болса false қайтарады
+    public boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            metrics.union(false);
+            return false;
+        }
+        if (size[rootA] < size[rootB]) {
+            int tmp = rootA;
+            rootA = rootB;
+            rootB = tmp;
+        }
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+        componentCount--;
+        metrics.union(true);
+        return true;
+    }
+
+    public boolean connected(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    public int componentSize(int node) {
+        return size[find(node)];
+    }
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    public int getElementCount() {
+        return elementCount;
+    }
+}
@@ -1,104 +1,372 @@
 package algorithms;
 
+import graph.CompactGraph;
 import graph.Edge;
+import graph.EdgeStore;
 import graph.Graph;
 
 import java.util.*;
 
 public class Kruskal {
+    // SEQUENTIAL: бір ағынды толық сұрыптау; PARALLEL_SORT: Arrays.parallelSort;
+    // FILTER: Filter-Kruskal бөлу, цикл құратын қырлар толық сұрыпталмай тасталады;
+    // HEAP: кілттер O(E) heap-ке жиналып, ағаш толғанша ғана алынады (тығыз графтарда құйрық сұрыпталмайды)
+    public enum Mode {
+        SEQUENTIAL,
+        PARALLEL_SORT,
+        FILTER,
+        HEAP
+    }
+
+    private static final int FILTER_THRESHOLD = 1024;
+
     public static class Result {
         public List<Edge> mstEdges;
         public int totalCost;
         public int operationsCount;
         public double executionTimeMs;
 
+        // Ықшам граф нәтижелерінде: бастапқы қыр индекстері және long құн (null - тек mstEdges бар)
+        public int[] mstEdgeIds;
+        public long totalWeight;
+        public int edgesExamined; // union-find арқылы тексерілген қырлар саны (ықшам граф нұсқаларында)
+
         public Result(List<Edge> mstEdges, int totalCost, int operationsCount, double executionTimeMs) {
             this.mstEdges = mstEdges;
             this.totalCost = totalCost;
+            this.totalWeight = totalCost;
             this.operationsCount = operationsCount;
             this.executionTimeMs = executionTimeMs;
         }
-    }
-
-    static class UnionFind {
-        private final Map<String, String> parent;
-        private final Map<String, Integer> rank;
-
-        public UnionFind(List<String> nodes) {
-            parent = new HashMap<>();
-            rank = new HashMap<>();
-            // Әрбір түйінді бастапқыда өзін-өзі ата-ана ретінде орнатамыз
-            for (String node : nodes) {
-                parent.putIfAbsent(node, node);  // Егер түйіннің ата-анасы жоқ болса, оны өзін-өзі көрсетеміз
-                rank.putIfAbsent(node, 0);       // Әр түйіннің бастапқы рангі 0 болады
-            }
-        }
-
-        public String find(String node, int[] ops) {
-            // Егер түйіннің ата-анасы өзінен өзгеше болса, ата-ананы қайта іздеу
-            if (!parent.get(node).equals(node)) {
-                parent.put(node, find(parent.get(node), ops)); // Путь қысқарту (Path Compression)
-                ops[0]++;
-            }
-            ops[0]++;
-            return parent.get(node); // Ата-анасын қайтарады
-        }
-
-        public void union(String node1, String node2, int[] ops) {
-            String root1 = find(node1, ops);
-            String root2 = find(node2, ops);
-            if (root1.equals(root2)) return; // Егер түйіндер бір ата-анамен болса, біріктіруге болмайды
 
-            ops[0]++;
-            // Қосылған екі түйіннің рангін салыстыру арқылы біріктіру
-            if (rank.get(root1) < rank.get(root2)) {
-                parent.put(root1, root2);
-            } else if (rank.get(root1) > rank.get(root2)) {
-                parent.put(root2, root1);
-            } else {
-                parent.put(root2, root1);
-                rank.put(root1, rank.get(root1) + 1);
-            }
+        // mstEdges - индекстердің жалқау көрінісі; totalCost int шегінен асса, Integer.MAX_VALUE болады
+        public Result(CompactGraph graph, int[] mstEdgeIds, long totalWeight, int operationsCount,
+                      double executionTimeMs) {
+            this(new EdgeIdList(graph, mstEdgeIds), (int) Math.min(totalWeight, Integer.MAX_VALUE),
+                    operationsCount, executionTimeMs);
+            this.mstEdgeIds = mstEdgeIds;
+            this.totalWeight = totalWeight;
         }
     }
 
     public static Result findMST(Graph graph) {
         long startTime = System.nanoTime();
-        int[] operations = {0};
+        long[] operations = {0};
 
         List<Edge> edges = new ArrayList<>(graph.getEdges());
         edges.sort(Comparator.naturalOrder());
-        operations[0] += edges.size() * (int) Math.log(edges.size()); // Алдын ала сұрыптау шығындарын бағалау
+        operations[0] += sortCost(edges.size()); // Алдын ала сұрыптау шығындарын бағалау
+
+        // Төбе идентификаторларын негізгі циклге дейін бір рет анықтаймыз
+        CompactGraph compact = graph.toCompact();
+        int[] fromIds = new int[edges.size()];
+        int[] toIds = new int[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            fromIds[i] = compact.getVertexId(edges.get(i).from);
+            toIds[i] = compact.getVertexId(edges.get(i).to);
+        }
 
-        UnionFind uf = new UnionFind(graph.getNodes());
+        IntUnionFind uf = new IntUnionFind(compact.getVertexCount());
         List<Edge> mstEdges = new ArrayList<>();
         int totalCost = 0;
 
-        for (Edge edge : edges) {
-            String rootFrom = uf.find(edge.from, operations);
-            String rootTo = uf.find(edge.to, operations);
-            if (!rootFrom.equals(rootTo)) {
-                uf.union(edge.from, edge.to, operations);
+        for (int i = 0; i < edges.size(); i++) {
+            operations[0] += 2;
+            if (uf.union(fromIds[i], toIds[i])) {
+                operations[0]++;
+                Edge edge = edges.get(i);
                 mstEdges.add(edge);
                 totalCost += edge.weight;
             }
         }
 
-        // MST дұрыс құрылмаған жағдайда тексеру (граф байланысқан болуы керек)
-        String root = uf.find(graph.getNodes().get(0), operations);
-        boolean connected = true;
-        for (String node : graph.getNodes()) {
-            if (!uf.find(node, operations).equals(root)) {
-                connected = false;
+        // Байланыстылық union-find компоненттер санынан O(1) уақытта анықталады
+        boolean connected = uf.getComponentCount() == 1;
+
+        if (!connected || mstEdges.size() != graph.getNodes().size() - 1) {
+            return new Result(new ArrayList<>(), -1, saturate(operations[0]), 0);
+        }
+
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new Result(mstEdges, totalCost, saturate(operations[0]), executionTimeMs);
+    }
+
+    public static Result findMST(CompactGraph graph) {
+        return findMST(graph, Mode.SEQUENTIAL);
+    }
+
+    public static Result findMST(CompactGraph graph, Mode mode) {
+        return findMST(graph, mode, new MstWorkspace());
+    }
+
+    public static Result findMST(CompactGraph graph, Mode mode, MstWorkspace workspace) {
+        return findMST(graph, mode, workspace, MstMetrics.NOOP);
+    }
+
+    // Ықшам CSR графтағы Kruskal: қырлар (салмақ, индекс) кілттері бойынша реттеледі.
+    // Кілттер буфері мен union-find workspace-тен алынады; санауыштар мен кезең уақыттары metrics-ке жіберіледі.
+    public static Result findMST(CompactGraph graph, Mode mode, MstWorkspace workspace, MstMetrics metrics) {
+        long startTime = System.nanoTime();
+
+        int vertexCount = graph.getVertexCount();
+        int edgeCount = graph.getEdgeCount();
+        int[] edgeWeight = graph.getEdgeWeight();
+
+        long[] keys = workspace.sortKeys(edgeCount);
+        for (int e = 0; e < edgeCount; e++) {
+            keys[e] = LongHeap.pack(edgeWeight[e], e);
+        }
+
+        IntUnionFind uf = workspace.unionFind(vertexCount);
+        uf.setMetrics(metrics);
+        Run run = new Run(graph, uf, metrics);
+        long phaseStart = System.nanoTime();
+        switch (mode) {
+            case PARALLEL_SORT:
+                Arrays.parallelSort(keys, 0, edgeCount);
+                run.operations += sortCost(edgeCount); // Алдын ала сұрыптау шығындарын бағалау
+                phaseStart = run.endPhase(MstMetrics.Phase.SORT, phaseStart);
+                run.scan(keys, 0, edgeCount);
+                phaseStart = run.endPhase(MstMetrics.Phase.MAIN_LOOP, phaseStart);
+                break;
+            case HEAP:
+                LongHeap heap = new LongHeap(keys, edgeCount);
+                run.operations += edgeCount; // heapify
+                phaseStart = run.endPhase(MstMetrics.Phase.SORT, phaseStart);
+                heap.setMetrics(metrics);
+                run.drain(heap);
+                phaseStart = run.endPhase(MstMetrics.Phase.MAIN_LOOP, phaseStart);
+                break;
+            case FILTER:
+                // Бөлу мен жапырақтарды сұрыптау SORT, қалғаны MAIN_LOOP ретінде filterKruskal ішінде есептеледі
+                filterKruskal(keys, 0, edgeCount, run);
+                phaseStart = System.nanoTime();
                 break;
+            default:
+                Arrays.sort(keys, 0, edgeCount);
+                run.operations += sortCost(edgeCount); // Алдын ала сұрыптау шығындарын бағалау
+                phaseStart = run.endPhase(MstMetrics.Phase.SORT, phaseStart);
+                run.scan(keys, 0, edgeCount);
+                phaseStart = run.endPhase(MstMetrics.Phase.MAIN_LOOP, phaseStart);
+                break;
+        }
+
+        boolean complete = run.isComplete();
+        run.endPhase(MstMetrics.Phase.CONNECTIVITY_CHECK, phaseStart);
+        uf.setMetrics(MstMetrics.NOOP);
+        Result result;
+        if (vertexCount == 0 || !complete) {
+            result = new Result(graph, new int[0], vertexCount == 0 ? 0 : -1, saturate(run.operations), 0);
+        } else {
+            double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+            result = new Result(graph, run.treeEdges, run.totalCost, saturate(run.operations), executionTimeMs);
+        }
+        result.edgesExamined = run.examined;
+        return result;
+    }
+
+    // Примитив салмақты қоймадағы Kruskal (long, double салмақтар да): қырлар компараторсыз radix sort арқылы
+    // (салмақ, индекс) бойынша реттеліп, union-find арқылы өтеді
+    public static WeightedTree findMST(EdgeStore store) {
+        long startTime = System.nanoTime();
+        int vertexCount = store.getVertexCount();
+        int edgeCount = store.getEdgeCount();
+        int[] edgeFrom = store.getEdgeFrom();
+        int[] edgeTo = store.getEdgeTo();
+
+        int[] order = store.edgesByWeight();
+        long operations = edgeCount; // radix sort: әр разряд бойынша O(E)
+
+        IntUnionFind uf = new IntUnionFind(vertexCount);
+        int[] treeEdges = new int[Math.max(vertexCount - 1, 0)];
+        int treeSize = 0;
+        for (int i = 0; i < edgeCount && treeSize < treeEdges.length; i++) {
+            int e = order[i];
+            operations += 2;
+            if (uf.union(edgeFrom[e], edgeTo[e])) {
+                operations++;
+                treeEdges[treeSize++] = e;
             }
         }
 
-        if (!connected || mstEdges.size() != graph.getNodes().size() - 1) {
-            return new Result(new ArrayList<>(), -1, operations[0], 0);
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new WeightedTree(store, treeEdges, treeSize == treeEdges.length, saturate(operations),
+                executionTimeMs);
+    }
+
+    // Ең кіші қаңқа орман: барлық қырлар бір рет өтіледі, ағаш қырлары соңында компоненттерге бөлінеді
+    public static SpanningForest findForest(CompactGraph graph) {
+        long startTime = System.nanoTime();
+
+        int vertexCount = graph.getVertexCount();
+        int edgeCount = graph.getEdgeCount();
+        int[] edgeWeight = graph.getEdgeWeight();
+
+        long[] keys = new long[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            keys[e] = LongHeap.pack(edgeWeight[e], e);
+        }
+        Arrays.sort(keys);
+
+        Run run = new Run(graph, new IntUnionFind(vertexCount), MstMetrics.NOOP);
+        run.operations += sortCost(edgeCount); // Алдын ала сұрыптау шығындарын бағалау
+        run.scan(keys, 0, edgeCount);
+
+        // Компонент id түбір төбелерге ең кіші төбе ретімен беріледі
+        int[] componentOf = new int[vertexCount];
+        int[] componentOfRoot = new int[vertexCount];
+        Arrays.fill(componentOfRoot, -1);
+        List<List<Edge>> trees = new ArrayList<>(run.uf.getComponentCount());
+        for (int v = 0; v < vertexCount; v++) {
+            int root = run.uf.find(v);
+            if (componentOfRoot[root] < 0) {
+                componentOfRoot[root] = trees.size();
+                trees.add(new ArrayList<>());
+            }
+            componentOf[v] = componentOfRoot[root];
+            run.operations++;
+        }
+        for (int i = 0; i < run.treeSize; i++) {
+            int e = run.treeEdges[i];
+            trees.get(componentOf[graph.getEdgeFrom()[e]]).add(graph.toEdge(e));
         }
 
         double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
-        return new Result(mstEdges, totalCost, operations[0], executionTimeMs);
+        return new SpanningForest(trees, componentOf, saturate(run.operations), executionTimeMs);
+    }
+
+    // Filter-Kruskal: пивот бойынша жеңіл/ауыр қырларға бөліп, жеңілдерін өңдеген соң
+    // ауыр қырлардың ішінен цикл құратындарын сұрыптамай-ақ алып тастаймыз
+    private static void filterKruskal(long[] keys, int from, int to, Run run) {
+        while (to - from > FILTER_THRESHOLD) {
+            long phaseStart = System.nanoTime();
+            long pivot = medianOfThree(keys[from], keys[(from + to) >>> 1], keys[to - 1]);
+            int mid = partition(keys, from, to, pivot);
+            run.operations += to - from;
+            run.metrics.comparisons(to - from);
+            run.endPhase(MstMetrics.Phase.SORT, phaseStart);
+
+            filterKruskal(keys, from, mid, run);
+            if (run.isComplete()) {
+                return;
+            }
+
+            phaseStart = System.nanoTime();
+            from = mid;
+            to = run.filter(keys, mid, to);
+            run.endPhase(MstMetrics.Phase.MAIN_LOOP, phaseStart);
+        }
+        long phaseStart = System.nanoTime();
+        Arrays.sort(keys, from, to);
+        run.operations += sortCost(to - from);
+        phaseStart = run.endPhase(MstMetrics.Phase.SORT, phaseStart);
+        run.scan(keys, from, to);
+        run.endPhase(MstMetrics.Phase.MAIN_LOOP, phaseStart);
+    }
+
+    // Сұрыптау шығынының бағасы n * ln(n); үлкен E-де int шегінен асатындықтан long-та есептеледі
+    private static long sortCost(long n) {
+        return n > 1 ? n * (long) Math.log(n) : 0;
+    }
+
+    // Санауыш int шегінен асса, Integer.MAX_VALUE болады (totalCost сияқты)
+    static int saturate(long operations) {
+        return (int) Math.min(operations, Integer.MAX_VALUE);
+    }
+
+    // [from, mid) <= pivot < [mid, to)
+    private static int partition(long[] keys, int from, int to, long pivot) {
+        int i = from;
+        int j = to - 1;
+        while (i <= j) {
+            if (keys[i] <= pivot) {
+                i++;
+            } else {
+                long tmp = keys[i];
+                keys[i] = keys[j];
+                keys[j] = tmp;
+                j--;
+            }
+        }
+        return i;
+    }
+
+    private static long medianOfThree(long a, long b, long c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    // Бір Kruskal орындалуының күйі: union-find және табылған ағаш қырларының индекстері
+    private static final class Run {
+        final CompactGraph graph;
+        final int[] edgeFrom;
+        final int[] edgeTo;
+        final int[] edgeWeight;
+        final IntUnionFind uf;
+        final MstMetrics metrics;
+        final int[] treeEdges;
+        int treeSize;
+        long totalCost;
+        long operations;
+        int examined;
+
+        Run(CompactGraph graph, IntUnionFind uf, MstMetrics metrics) {
+            this.graph = graph;
+            this.metrics = metrics;
+            this.edgeFrom = graph.getEdgeFrom();
+            this.edgeTo = graph.getEdgeTo();
+            this.edgeWeight = graph.getEdgeWeight();
+            this.uf = uf;
+            this.treeEdges = new int[Math.max(graph.getVertexCount() - 1, 0)];
+        }
+
+        // Кезең уақытын жіберіп, келесі кезеңнің басталу уақытын қайтарады
+        long endPhase(MstMetrics.Phase phase, long phaseStart) {
+            long now = System.nanoTime();
+            metrics.phase(phase, now - phaseStart);
+            return now;
+        }
+
+        boolean isComplete() {
+            return treeSize == treeEdges.length;
+        }
+
+        // Реттелген кілттерді өңдеу; ағаш толған соң тоқтаймыз
+        void scan(long[] keys, int from, int to) {
+            for (int i = from; i < to && !isComplete(); i++) {
+                accept(LongHeap.index(keys[i]));
+            }
+        }
+
+        // Heap-тен ең жеңіл қырларды ағаш толғанша алу
+        void drain(LongHeap heap) {
+            while (!heap.isEmpty() && !isComplete()) {
+                operations++;
+                accept(LongHeap.index(heap.poll()));
+            }
+        }
+
+        private void accept(int e) {
+            examined++;
+            operations += 2;
+            if (uf.union(edgeFrom[e], edgeTo[e])) {
+                operations++;
+                treeEdges[treeSize++] = e;
+                totalCost += edgeWeight[e];
+            }
+        }
+
+        // Компоненттер арасын қосатын қырларды ғана [from, ...) басына жинап, жаңа шекараны қайтарады
+        int filter(long[] keys, int from, int to) {
+            int kept = from;
+            for (int i = from; i < to; i++) {
+                int e = LongHeap.index(keys[i]);
+                examined++;
+                operations += 2;
+                if (uf.find(edgeFrom[e]) != uf.find(edgeTo[e])) {
+                    keys[kept++] = keys[i];
+                }
+            }
+            return kept;
+        }
     }
 }
@@ -0,0 +1,108 @@
+package algorithms;
+
+import java.util.Arrays;
+
+// long кілттерге арналған қарапайым бинарлық min-heap (боксингсіз)
+class LongHeap {
+    private long[] heap;
+    private int size;
+    private MstMetrics metrics = MstMetrics.NOOP;
+
+    LongHeap(int capacity) {
+        heap = new long[Math.max(capacity, 1)];
+    }
+
+    // Floyd heapify, O(n): keys жиымының алғашқы size элементі орнында heap-ке айналады (көшірмесіз)
+    LongHeap(long[] keys, int size) {
+        heap = keys.length == 0 ? new long[1] : keys;
+        this.size = size;
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(i, heap[i]);
+        }
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    void setMetrics(MstMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    void add(long key) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        int i = size++;
+        int compared = 0;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            compared++;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = key;
+        metrics.heapPush();
+        metrics.comparisons(compared);
+    }
+
+    long poll() {
+        long min = heap[0];
+        long last = heap[--size];
+        int compared = size > 0 ? siftDown(0, last) : 0;
+        metrics.heapPop();
+        metrics.comparisons(compared);
+        return min;
+    }
+
+    long peek() {
+        return heap[0];
+    }
+
+    // key-ді i орнынан төмен түсіреді; салыстырулар санын қайтарады
+    private int siftDown(int i, long key) {
+        int half = size >>> 1;
+        int compared = 0;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size) {
+                compared++;
+                if (heap[child + 1] < heap[child]) {
+                    child++;
+                }
+            }
+            compared++;
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = key;
+        return compared;
+    }
+
+    // Салмақ пен индексті бір long кілтке орау: алдымен салмақ, тең болса индекс
+    static long pack(int weight, int index) {
+        return ((long) weight << 32) | (index & 0xFFFFFFFFL);
+    }
+
+    static int index(long key) {
+        return (int) key;
+    }
+
+    static int weight(long key) {
+        return (int) (key >> 32);
+    }
+}
@@ -0,0 +1,112 @@
+package algorithms;
+
+import java.util.Arrays;
+
+// MstMetrics-тің санауыш іске асыруы. Ағынға қауіпсіз емес: әр ағынға жеке дана.
+public class MstCounters implements MstMetrics {
+    private long comparisons;
+    private long heapPushes;
+    private long heapPops;
+    private long heapDecreaseKeys;
+    private long findCalls;
+    private long pathSteps;
+    private long unionCalls;
+    private long successfulUnions;
+    private final long[] phaseNanos = new long[Phase.values().length];
+
+    @Override
+    public void comparisons(int count) {
+        comparisons += count;
+    }
+
+    @Override
+    public void heapPush() {
+        heapPushes++;
+    }
+
+    @Override
+    public void heapPop() {
+        heapPops++;
+    }
+
+    @Override
+    public void heapDecreaseKey() {
+        heapDecreaseKeys++;
+    }
+
+    @Override
+    public void find(int steps) {
+        findCalls++;
+        pathSteps += steps;
+    }
+
+    @Override
+    public void union(boolean merged) {
+        unionCalls++;
+        if (merged) {
+            successfulUnions++;
+        }
+    }
+
+    @Override
+    public void phase(Phase phase, long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    public long getHeapPushes() {
+        return heapPushes;
+    }
+
+    public long getHeapPops() {
+        return heapPops;
+    }
+
+    public long getHeapDecreaseKeys() {
+        return heapDecreaseKeys;
+    }
+
+    public long getFindCalls() {
+        return findCalls;
+    }
+
+    public long getPathSteps() {
+        return pathSteps;
+    }
+
+    public long getUnionCalls() {
+        return unionCalls;
+    }
+
+    public long getSuccessfulUnions() {
+        return successfulUnions;
+    }
+
+    public double getPhaseTimeMs(Phase phase) {
+        return phaseNanos[phase.ordinal()] / 1_000_000.0;
+    }
+
+    public void reset() {
+        comparisons = 0;
+        heapPushes = 0;
+        heapPops = 0;
+        heapDecreaseKeys = 0;
+        findCalls = 0;
+        pathSteps = 0;
+        unionCalls = 0;
+        successfulUnions = 0;
+        Arrays.fill(phaseNanos, 0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("comparisons=%d, pushes=%d, pops=%d, decreaseKeys=%d, finds=%d, pathSteps=%d, "
+                        + "unions=%d/%d, sort=%.3fms, mainLoop=%.3fms, connectivity=%.3fms",
+                comparisons, heapPushes, heapPops, heapDecreaseKeys, findCalls, pathSteps,
+                successfulUnions, unionCalls, getPhaseTimeMs(Phase.SORT), getPhaseTimeMs(Phase.MAIN_LOOP),
+                getPhaseTimeMs(Phase.CONNECTIVITY_CHECK));
+    }
+}
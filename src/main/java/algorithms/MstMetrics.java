@@ -0,0 +1,39 @@
+package algorithms;
+
+// Prim/Kruskal операцияларын өлшеуге арналған қабылдағыш. Барлық әдістер бос default, ал NOOP
+// жалғыз іске асыру болғанда JIT шақыруларды inline етіп алып тастайды: метрика өшірулі кезде шығын жоқ.
+// Arrays.sort ішіндегі салыстырулар саналмайды, олардың үлесі SORT кезеңінің уақытында көрінеді.
+public interface MstMetrics {
+    enum Phase {
+        SORT,
+        MAIN_LOOP,
+        CONNECTIVITY_CHECK
+    }
+
+    MstMetrics NOOP = new MstMetrics() {
+    };
+
+    // Кілттерді салыстыру (heap елеуі, Filter-Kruskal бөлуі)
+    default void comparisons(int count) {
+    }
+
+    default void heapPush() {
+    }
+
+    default void heapPop() {
+    }
+
+    default void heapDecreaseKey() {
+    }
+
+    // Бір find шақыруы және ол түбірге дейін өткен ата сілтемелер саны
+    default void find(int pathSteps) {
+    }
+
+    // Бір union шақыруы; merged - екі түрлі жиын біріктірілді ме
+    default void union(boolean merged) {
+    }
+
+    default void phase(Phase phase, long nanos) {
+    }
+}
@@ -0,0 +1,66 @@
+package algorithms;
+
+import java.util.Arrays;
+
+// Prim/Kruskal шақырулары арасында қайта қолданылатын жұмыс жиымдары: heap-тер, visited бит жиыны,
+// union-find және сұрыптау буфері. Жиымдар тек өседі, сондықтан ұқсас өлшемді графтарда тұрақты күйде
+// нәтиженің өзінен басқа ештеңе жасалмайды. Дана ағынға қауіпсіз емес: әр ағынға forCurrentThread().
+public final class MstWorkspace {
+    private static final ThreadLocal<MstWorkspace> PER_THREAD = ThreadLocal.withInitial(MstWorkspace::new);
+
+    private long[] visited = new long[0];
+    private final LongHeap lazyHeap = new LongHeap(16);
+    private IndexedDaryHeap eagerHeap;
+    private final IntUnionFind unionFind = new IntUnionFind(0);
+    private long[] sortKeys = new long[0];
+
+    public static MstWorkspace forCurrentThread() {
+        return PER_THREAD.get();
+    }
+
+    // Тазаланған бит жиыны: кем дегенде vertexCount бит
+    long[] visited(int vertexCount) {
+        int words = (vertexCount + 63) >>> 6;
+        if (visited.length < words) {
+            visited = new long[words];
+        } else {
+            Arrays.fill(visited, 0, words, 0L);
+        }
+        return visited;
+    }
+
+    static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    LongHeap lazyHeap() {
+        lazyHeap.clear();
+        return lazyHeap;
+    }
+
+    IndexedDaryHeap eagerHeap(int capacity, int arity) {
+        if (eagerHeap == null || eagerHeap.capacity() < capacity || eagerHeap.arity() != arity) {
+            eagerHeap = new IndexedDaryHeap(capacity, arity);
+        } else {
+            eagerHeap.clear();
+        }
+        return eagerHeap;
+    }
+
+    IntUnionFind unionFind(int elementCount) {
+        unionFind.reset(elementCount);
+        return unionFind;
+    }
+
+    // Мазмұны анықталмаған буфер: шақырушы алғашқы length элементті толтырады
+    long[] sortKeys(int length) {
+        if (sortKeys.length < length) {
+            sortKeys = new long[length];
+        }
+        return sortKeys;
+    }
+}
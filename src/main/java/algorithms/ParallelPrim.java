@@ -0,0 +1,148 @@
+package algorithms;
+
+import graph.CompactGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+// Көп көзді параллель Prim: әр ағын өз төбелер блогынан түбірлер алып, жеке heap-пен eager Prim ағашын өсіреді.
+// Төбе иесі CAS арқылы алынады. Ағаштан шығатын ең жеңіл қыр басқа ағашқа жетсе, ол да MST қыры (кесу қасиеті):
+// екі ағаш ортақ ConcurrentUnionFind-та біріктіріліп, бұл ағаштың өсуі тоқтайды. Соңында қалған ағаштар
+// Borůvka кезеңдерімен біріктіріледі. Кілттер (салмақ, қыр индексі), сондықтан ағаш Kruskal-дікімен бірдей.
+public class ParallelPrim {
+    // Осыдан кіші графтар бір ағынмен өңделеді
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+    private static final int UNOWNED = 0; // owner[v] = түбір + 1
+
+    public static Prim.Result findMST(CompactGraph graph) {
+        return findMST(graph, ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    public static Prim.Result findMST(CompactGraph graph, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        long startTime = System.nanoTime();
+        LongAdder operations = new LongAdder();
+
+        int vertexCount = graph.getVertexCount();
+        if (vertexCount == 0) {
+            return new Prim.Result(graph, new int[0], 0, 0, 0);
+        }
+
+        AtomicIntegerArray owner = new AtomicIntegerArray(vertexCount);
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(vertexCount);
+        int[] treeEdges = new int[vertexCount - 1];
+        AtomicInteger treeSize = new AtomicInteger();
+
+        // Блоктар ортақ ForkJoin пулында өңделеді; әр блок ағыны өз workspace heap-ін қолданады
+        int workers = vertexCount < PARALLEL_THRESHOLD ? 1 : Math.min(threads, vertexCount);
+        IntStream.range(0, workers).parallel().forEach(w -> {
+            Grower grower = new Grower(graph, owner, uf, treeEdges, treeSize);
+            int from = (int) ((long) w * vertexCount / workers);
+            int to = (int) ((long) (w + 1) * vertexCount / workers);
+            for (int seed = from; seed < to; seed++) {
+                if (owner.get(seed) == UNOWNED && owner.compareAndSet(seed, UNOWNED, seed + 1)) {
+                    grower.grow(seed);
+                }
+            }
+            operations.add(grower.operations);
+        });
+
+        // Бір ағын байланысты графты толық қамтыса, Borůvka кезеңі қажет емес
+        if (treeSize.get() < vertexCount - 1) {
+            Boruvka.contract(graph, uf, Boruvka.allEdges(graph), treeEdges, treeSize, operations);
+        }
+
+        if (treeSize.get() != vertexCount - 1) {
+            return new Prim.Result(graph, new int[0], -1, Kruskal.saturate(operations.sum()), 0);
+        }
+
+        // Ағындар қосқан рет анықталмаған, сондықтан нәтижені (салмақ, индекс) бойынша реттейміз
+        int[] edgeWeight = graph.getEdgeWeight();
+        long[] keys = new long[treeEdges.length];
+        long totalWeight = 0;
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = LongHeap.pack(edgeWeight[treeEdges[i]], treeEdges[i]);
+            totalWeight += edgeWeight[treeEdges[i]];
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < keys.length; i++) {
+            treeEdges[i] = LongHeap.index(keys[i]);
+        }
+
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new Prim.Result(graph, treeEdges, totalWeight, Kruskal.saturate(operations.sum()), executionTimeMs);
+    }
+
+    // Бір ағынның күйі: heap ағын workspace-інен алынып, әр ағаштан кейін тазаланады
+    private static final class Grower {
+        final int[] offsets;
+        final int[] targets;
+        final int[] weights;
+        final int[] edgeIds;
+        final int[] edgeFrom;
+        final int[] edgeTo;
+        final AtomicIntegerArray owner;
+        final ConcurrentUnionFind uf;
+        final int[] treeEdges;
+        final AtomicInteger treeSize;
+        final IndexedDaryHeap heap;
+        long operations;
+
+        Grower(CompactGraph graph, AtomicIntegerArray owner, ConcurrentUnionFind uf, int[] treeEdges,
+               AtomicInteger treeSize) {
+            this.offsets = graph.getOffsets();
+            this.targets = graph.getTargets();
+            this.weights = graph.getWeights();
+            this.edgeIds = graph.getEdgeIds();
+            this.edgeFrom = graph.getEdgeFrom();
+            this.edgeTo = graph.getEdgeTo();
+            this.owner = owner;
+            this.uf = uf;
+            this.treeEdges = treeEdges;
+            this.treeSize = treeSize;
+            this.heap = MstWorkspace.forCurrentThread().eagerHeap(graph.getVertexCount(), Prim.HEAP_ARITY);
+        }
+
+        // seed иесі осы ағаш болғаннан кейін шақырылады
+        void grow(int seed) {
+            int tree = seed + 1;
+            int current = seed;
+            while (true) {
+                // Басқа ағаштардың төбелері де кезекке түседі: кесу қасиеті ағаштан шығатын барлық қырларды талап етеді
+                for (int slot = offsets[current]; slot < offsets[current + 1]; slot++) {
+                    int next = targets[slot];
+                    if (owner.get(next) != tree
+                            && heap.insertOrDecrease(next, LongHeap.pack(weights[slot], edgeIds[slot]))) {
+                        operations++;
+                    }
+                }
+                if (heap.isEmpty()) {
+                    break;
+                }
+
+                current = heap.pollMin();
+                operations++;
+                boolean claimed = owner.compareAndSet(current, UNOWNED, tree);
+                addEdge(LongHeap.index(heap.keyOf(current)));
+                if (!claimed) {
+                    // Басқа ағашпен кездесу: қыр MST-ке кіреді (екі ағаш бір-біріне жетсе, union бір рет қана сәтті)
+                    break;
+                }
+            }
+            heap.clear();
+        }
+
+        private void addEdge(int edgeId) {
+            if (uf.union(edgeFrom[edgeId], edgeTo[edgeId])) {
+                treeEdges[treeSize.getAndIncrement()] = edgeId;
+                operations++;
+            }
+        }
+    }
+}
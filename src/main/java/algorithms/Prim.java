@@ -1,23 +1,48 @@
 package algorithms;
 
+import graph.CompactGraph;
 import graph.Edge;
+import graph.EdgeStore;
 import graph.Graph;
 
 import java.util.*;
 
 public class Prim {
+    // LAZY: барлық көрші қырлар кезекке салынады (O(E) heap);
+    // EAGER: әр төбеге бір жазба, decrease-key арқылы жаңартылады (O(V) heap)
+    public enum Mode {
+        LAZY,
+        EAGER
+    }
+
+    static final int HEAP_ARITY = 4;
+
     public static class Result {
         public List<Edge> mstEdges;
         public int totalCost;
         public int operationsCount;
         public double executionTimeMs;
 
+        // Ықшам граф нәтижелерінде: бастапқы қыр индекстері және long құн (null - тек mstEdges бар)
+        public int[] mstEdgeIds;
+        public long totalWeight;
+
         public Result(List<Edge> mstEdges, int totalCost, int operationsCount, double executionTimeMs) {
             this.mstEdges = mstEdges;
             this.totalCost = totalCost;
+            this.totalWeight = totalCost;
             this.operationsCount = operationsCount;
             this.executionTimeMs = executionTimeMs;
         }
+
+        // mstEdges - индекстердің жалқау көрінісі; totalCost int шегінен асса, Integer.MAX_VALUE болады
+        public Result(CompactGraph graph, int[] mstEdgeIds, long totalWeight, int operationsCount,
+                      double executionTimeMs) {
+            this(new EdgeIdList(graph, mstEdgeIds), (int) Math.min(totalWeight, Integer.MAX_VALUE),
+                    operationsCount, executionTimeMs);
+            this.mstEdgeIds = mstEdgeIds;
+            this.totalWeight = totalWeight;
+        }
     }
 
     public static Result findMST(Graph graph) {
@@ -70,4 +95,210 @@ public class Prim {
         double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
         return new Result(mstEdges, totalCost, operations, executionTimeMs);
     }
+
+    public static Result findMST(CompactGraph graph) {
+        return findMST(graph, Mode.LAZY);
+    }
+
+    public static Result findMST(CompactGraph graph, Mode mode) {
+        return findMST(graph, mode, new MstWorkspace());
+    }
+
+    // Жұмыс жиымдары workspace-тен алынады (мысалы, MstWorkspace.forCurrentThread())
+    public static Result findMST(CompactGraph graph, Mode mode, MstWorkspace workspace) {
+        return findMST(graph, mode, workspace, MstMetrics.NOOP);
+    }
+
+    // Heap операциялары мен салыстырулар, негізгі цикл уақыты metrics-ке жіберіледі
+    public static Result findMST(CompactGraph graph, Mode mode, MstWorkspace workspace, MstMetrics metrics) {
+        return mode == Mode.EAGER ? findMSTEager(graph, workspace, metrics) : findMSTLazy(graph, workspace, metrics);
+    }
+
+    // Примитив салмақты қоймадағы Prim (long, double салмақтар да): салмақтар рангтерге ауыстырылған CompactGraph
+    // үстінде int кілтті Prim орындалады. Рангтер (салмақ, индекс) ретін сақтайды, сондықтан ағаш өзгермейді.
+    public static WeightedTree findMST(EdgeStore store, Mode mode) {
+        long startTime = System.nanoTime();
+        Result ranked = findMST(store.toRankGraph(), mode);
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new WeightedTree(store, ranked.mstEdgeIds, ranked.totalWeight >= 0, ranked.operationsCount,
+                executionTimeMs);
+    }
+
+    // Ықшам CSR графтағы Prim: кезекте қыр орнының (slot) салмаққа оралған кілттері сақталады
+    private static Result findMSTLazy(CompactGraph graph, MstWorkspace workspace, MstMetrics metrics) {
+        long startTime = System.nanoTime();
+        int operations = 0;
+
+        int vertexCount = graph.getVertexCount();
+        if (vertexCount == 0) {
+            return new Result(graph, new int[0], 0, 0, 0);
+        }
+
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        int[] edgeIds = graph.getEdgeIds();
+
+        LongHeap pq = workspace.lazyHeap();
+        pq.setMetrics(metrics);
+        long[] visited = workspace.visited(vertexCount);
+        int[] mstEdgeIds = new int[vertexCount - 1];
+        int visitedCount = 1;
+        long totalWeight = 0;
+
+        long loopStart = System.nanoTime();
+        MstWorkspace.set(visited, 0);
+        for (int slot = offsets[0]; slot < offsets[1]; slot++) {
+            pq.add(LongHeap.pack(weights[slot], slot));
+            operations++;
+        }
+
+        while (!pq.isEmpty() && visitedCount < vertexCount) {
+            int minSlot = LongHeap.index(pq.poll());
+            operations++;
+            int toNode = targets[minSlot];
+
+            if (MstWorkspace.isSet(visited, toNode)) {
+                continue;
+            }
+
+            MstWorkspace.set(visited, toNode);
+            mstEdgeIds[visitedCount - 1] = edgeIds[minSlot];
+            visitedCount++;
+            totalWeight += weights[minSlot];
+            operations++;
+
+            for (int slot = offsets[toNode]; slot < offsets[toNode + 1]; slot++) {
+                if (!MstWorkspace.isSet(visited, targets[slot])) {
+                    pq.add(LongHeap.pack(weights[slot], slot));
+                    operations++;
+                }
+            }
+        }
+
+        pq.setMetrics(MstMetrics.NOOP);
+        metrics.phase(MstMetrics.Phase.MAIN_LOOP, System.nanoTime() - loopStart);
+        if (visitedCount != vertexCount) {
+            return new Result(graph, new int[0], -1, operations, 0);
+        }
+
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new Result(graph, mstEdgeIds, totalWeight, operations, executionTimeMs);
+    }
+
+    // Ең кіші қаңқа орман: кезек босағанда келесі ашылмаған төбеден жаңа компонент басталады.
+    // Бір heap және бір visited жиымы барлық компоненттерге ортақ.
+    public static SpanningForest findForest(CompactGraph graph) {
+        long startTime = System.nanoTime();
+        int operations = 0;
+
+        int vertexCount = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        int[] edgeIds = graph.getEdgeIds();
+
+        LongHeap pq = new LongHeap(16);
+        boolean[] visited = new boolean[vertexCount];
+        int[] componentOf = new int[vertexCount];
+        List<List<Edge>> trees = new ArrayList<>();
+
+        for (int start = 0; start < vertexCount; start++) {
+            if (visited[start]) {
+                continue;
+            }
+            int component = trees.size();
+            List<Edge> tree = new ArrayList<>();
+            trees.add(tree);
+
+            visited[start] = true;
+            componentOf[start] = component;
+            for (int slot = offsets[start]; slot < offsets[start + 1]; slot++) {
+                pq.add(LongHeap.pack(weights[slot], slot));
+                operations++;
+            }
+
+            while (!pq.isEmpty()) {
+                int minSlot = LongHeap.index(pq.poll());
+                operations++;
+                int toNode = targets[minSlot];
+
+                if (visited[toNode]) {
+                    continue;
+                }
+
+                visited[toNode] = true;
+                componentOf[toNode] = component;
+                tree.add(graph.toEdge(edgeIds[minSlot])); // кірістегі бағыт, findMST сияқты
+                operations++;
+
+                for (int slot = offsets[toNode]; slot < offsets[toNode + 1]; slot++) {
+                    if (!visited[targets[slot]]) {
+                        pq.add(LongHeap.pack(weights[slot], slot));
+                        operations++;
+                    }
+                }
+            }
+        }
+
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new SpanningForest(trees, componentOf, operations, executionTimeMs);
+    }
+
+    // Eager Prim: heap-те тек ағашқа әлі қосылмаған төбелер, кілті (салмақ, қыр индексі)
+    private static Result findMSTEager(CompactGraph graph, MstWorkspace workspace, MstMetrics metrics) {
+        long startTime = System.nanoTime();
+        int operations = 0;
+
+        int vertexCount = graph.getVertexCount();
+        if (vertexCount == 0) {
+            return new Result(graph, new int[0], 0, 0, 0);
+        }
+
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        int[] edgeIds = graph.getEdgeIds();
+
+        IndexedDaryHeap heap = workspace.eagerHeap(vertexCount, HEAP_ARITY);
+        heap.setMetrics(metrics);
+        long[] inTree = workspace.visited(vertexCount);
+        int[] mstEdgeIds = new int[vertexCount - 1];
+        int treeSize = 0;
+        long totalWeight = 0;
+
+        long loopStart = System.nanoTime();
+        int current = 0;
+        while (true) {
+            MstWorkspace.set(inTree, current);
+            treeSize++;
+
+            for (int slot = offsets[current]; slot < offsets[current + 1]; slot++) {
+                int next = targets[slot];
+                if (!MstWorkspace.isSet(inTree, next) && heap.insertOrDecrease(next, LongHeap.pack(weights[slot], edgeIds[slot]))) {
+                    operations++;
+                }
+            }
+
+            if (heap.isEmpty()) {
+                break;
+            }
+            current = heap.pollMin();
+            operations++;
+
+            int edgeId = LongHeap.index(heap.keyOf(current));
+            mstEdgeIds[treeSize - 1] = edgeId;
+            totalWeight += graph.getEdgeWeight()[edgeId];
+            operations++;
+        }
+
+        heap.setMetrics(MstMetrics.NOOP);
+        metrics.phase(MstMetrics.Phase.MAIN_LOOP, System.nanoTime() - loopStart);
+        if (treeSize != vertexCount) {
+            return new Result(graph, new int[0], -1, operations, 0);
+        }
+
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new Result(graph, mstEdgeIds, totalWeight, operations, executionTimeMs);
+    }
 }
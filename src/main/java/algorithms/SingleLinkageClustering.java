@@ -0,0 +1,94 @@
+package algorithms;
+
+import graph.CompactGraph;
+
+import java.util.Arrays;
+
+// Single-linkage кластерлеу: Kruskal-дың union-find жолы, бірақ қырлар толық сұрыпталмайды.
+// Кілттер O(E) уақытта heap-ке жиналып, тек қажетті ең жеңіл қырлар алынады: k кластер қалғанда
+// немесе келесі қыр салмағы шектен асқанда тоқтаймыз, сондықтан тізімнің құйрығы өңделмейді.
+public class SingleLinkageClustering {
+    public static class Result {
+        public int[] clusterOf; // төбе id -> кластер id (кластерлер ең кіші төбе id ретімен нөмірленеді)
+        public int[] clusterSizes;
+        public int clusterCount;
+        public int[] mergeEdgeIds; // біріктіру ретіндегі MST қырлары (дендрограмманың төменгі бөлігі)
+        public long mergeCost;
+        public int edgesExamined;
+        public double executionTimeMs;
+
+        public Result(int[] clusterOf, int[] clusterSizes, int[] mergeEdgeIds, long mergeCost,
+                      int edgesExamined, double executionTimeMs) {
+            this.clusterOf = clusterOf;
+            this.clusterSizes = clusterSizes;
+            this.clusterCount = clusterSizes.length;
+            this.mergeEdgeIds = mergeEdgeIds;
+            this.mergeCost = mergeCost;
+            this.edgesExamined = edgesExamined;
+            this.executionTimeMs = executionTimeMs;
+        }
+    }
+
+    // k кластерге дейін біріктіру; граф компоненттері k-дан көп болса, компоненттер саны қайтады
+    public static Result byClusterCount(CompactGraph graph, int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("Cluster count must be positive: " + k);
+        }
+        return cluster(graph, k, Integer.MAX_VALUE);
+    }
+
+    // Салмағы maxWeight-тен аспайтын барлық қырлар бойынша біріктіру
+    public static Result byMaxWeight(CompactGraph graph, int maxWeight) {
+        return cluster(graph, 1, maxWeight);
+    }
+
+    private static Result cluster(CompactGraph graph, int targetClusters, int maxWeight) {
+        long startTime = System.nanoTime();
+
+        int vertexCount = graph.getVertexCount();
+        int edgeCount = graph.getEdgeCount();
+        int[] edgeFrom = graph.getEdgeFrom();
+        int[] edgeTo = graph.getEdgeTo();
+        int[] edgeWeight = graph.getEdgeWeight();
+
+        long[] keys = new long[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            keys[e] = LongHeap.pack(edgeWeight[e], e);
+        }
+        LongHeap heap = new LongHeap(keys, edgeCount);
+
+        IntUnionFind uf = new IntUnionFind(vertexCount);
+        int[] mergeEdgeIds = new int[Math.max(vertexCount - targetClusters, 0)];
+        int merges = 0;
+        long mergeCost = 0;
+        int edgesExamined = 0;
+
+        while (uf.getComponentCount() > targetClusters && !heap.isEmpty()
+                && LongHeap.weight(heap.peek()) <= maxWeight) {
+            int e = LongHeap.index(heap.poll());
+            edgesExamined++;
+            if (uf.union(edgeFrom[e], edgeTo[e])) {
+                mergeEdgeIds[merges++] = e;
+                mergeCost += edgeWeight[e];
+            }
+        }
+
+        int[] clusterOf = new int[vertexCount];
+        int[] clusterOfRoot = new int[vertexCount];
+        Arrays.fill(clusterOfRoot, -1);
+        int[] clusterSizes = new int[uf.getComponentCount()];
+        int clusters = 0;
+        for (int v = 0; v < vertexCount; v++) {
+            int root = uf.find(v);
+            if (clusterOfRoot[root] < 0) {
+                clusterOfRoot[root] = clusters++;
+            }
+            clusterOf[v] = clusterOfRoot[root];
+            clusterSizes[clusterOf[v]]++;
+        }
+
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new Result(clusterOf, clusterSizes, Arrays.copyOf(mergeEdgeIds, merges), mergeCost,
+                edgesExamined, executionTimeMs);
+    }
+}
@@ -0,0 +1,46 @@
+package algorithms;
+
+import graph.Edge;
+
+import java.util.*;
+
+// Байланыспаған графтың ең кіші қаңқа орманы: әр компонентке жеке ағаш және оның құны.
+// Компоненттер ең кіші төбе id бойынша нөмірленеді, сондықтан Prim мен Kruskal бірдей нөмірлеу береді.
+public class SpanningForest {
+    public List<List<Edge>> componentTrees;
+    public int[] componentOf; // төбе id -> компонент id
+    public long[] componentCosts;
+    public int componentCount;
+    public long totalCost;
+    public int operationsCount;
+    public double executionTimeMs;
+
+    public SpanningForest(List<List<Edge>> componentTrees, int[] componentOf, int operationsCount,
+                          double executionTimeMs) {
+        this.componentTrees = componentTrees;
+        this.componentOf = componentOf;
+        this.componentCount = componentTrees.size();
+        this.componentCosts = new long[componentCount];
+        for (int c = 0; c < componentCount; c++) {
+            for (Edge edge : componentTrees.get(c)) {
+                componentCosts[c] += edge.weight;
+            }
+            totalCost += componentCosts[c];
+        }
+        this.operationsCount = operationsCount;
+        this.executionTimeMs = executionTimeMs;
+    }
+
+    public boolean isConnected() {
+        return componentCount <= 1;
+    }
+
+    // Барлық компоненттердің қырлары компонент ретімен
+    public List<Edge> getEdges() {
+        List<Edge> edges = new ArrayList<>();
+        for (List<Edge> tree : componentTrees) {
+            edges.addAll(tree);
+        }
+        return edges;
+    }
+}
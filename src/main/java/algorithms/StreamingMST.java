@@ -0,0 +1,196 @@
+package algorithms;
+
+import graph.Edge;
+
+import java.util.*;
+
+// Жартылай ағындық MST: қырлар бір-бірден келеді, жадта тек O(V) үміткер орман сақталады.
+// Жаңа қыр цикл түзсе, цикл қасиеті бойынша циклдегі ең ауыр қыр алынып тасталады.
+// Қырлар реті Kruskal.findMST(Graph)-пен бірдей: салмақ, from, to, содан кейін келу реті,
+// сондықтан бүкіл ағыннан кейін toResult() Kruskal нәтижесімен сәйкес келеді.
+// Құны: компоненттерді қосатын қыр O(α(V)), ал цикл түзетін әр қыр орман бойынша DFS жасайды - O(компонент өлшемі).
+// Орман байланысқан соң әр қыр O(V), бүкіл ағын O(E·V): жиілігі жоғары ағындарға арналмаған.
+// Уақыт acceptAll шақыруы бойынша бір рет өлшенеді; жеке accept - бір қырлық топ.
+public class StreamingMST {
+    private final Map<String, Integer> vertexIds = new HashMap<>();
+    private final List<String> vertexNames = new ArrayList<>();
+    private final DynamicForest forest = new DynamicForest();
+    private final IntUnionFind components = new IntUnionFind(0);
+
+    // Ағаш қырлары ұяшықтарда: ауыстырылған қырдың орнын жаңа қыр алады, сондықтан ұяшықтар саны < V
+    private Edge[] treeEdges = new Edge[16];
+    private int[] treeFrom = new int[16];
+    private int[] treeTo = new int[16];
+    private long[] arrival = new long[16];
+    private int treeSize;
+    private int[] path = new int[16];
+
+    private long totalCost;
+    private long edgesSeen;
+    private long replacements;
+    private long operations;
+    private long processingNanos;
+
+    // Тек оқшау төбелер үшін қажет: қырдағы төбелер автоматты түрде қосылады
+    public void addVertex(String name) {
+        vertexId(name);
+    }
+
+    // Қырды өңдейді; орман өзгерсе true
+    public boolean accept(Edge edge) {
+        long start = System.nanoTime();
+        boolean changed = process(edge);
+        processingNanos += System.nanoTime() - start;
+        return changed;
+    }
+
+    public void acceptAll(Iterator<Edge> edges) {
+        long start = System.nanoTime();
+        while (edges.hasNext()) {
+            process(edges.next());
+        }
+        processingNanos += System.nanoTime() - start;
+    }
+
+    public void acceptAll(Iterable<Edge> edges) {
+        acceptAll(edges.iterator());
+    }
+
+    private boolean process(Edge edge) {
+        long sequence = edgesSeen++;
+        int u = vertexId(edge.from);
+        int v = vertexId(edge.to);
+        return u != v && offer(edge, u, v, sequence);
+    }
+
+    private boolean offer(Edge edge, int u, int v, long sequence) {
+        operations++;
+        // Әртүрлі компоненттер: цикл жоқ, жолды іздеудің қажеті жоқ
+        if (components.union(u, v)) {
+            int slot = treeSize++;
+            ensureSlots(treeSize);
+            setSlot(slot, edge, u, v, sequence);
+            forest.link(slot, u, v, 0);
+            totalCost += edge.weight;
+            return true;
+        }
+
+        int length = forest.pathEdges(u, v, path);
+        operations += length;
+        int heaviest = path[0];
+        for (int i = 1; i < length; i++) {
+            if (compareSlots(path[i], heaviest) > 0) {
+                heaviest = path[i];
+            }
+        }
+        if (compare(edge, sequence, treeEdges[heaviest], arrival[heaviest]) >= 0) {
+            return false;
+        }
+
+        forest.cut(heaviest, treeFrom[heaviest], treeTo[heaviest]);
+        totalCost += edge.weight - treeEdges[heaviest].weight;
+        setSlot(heaviest, edge, u, v, sequence);
+        forest.link(heaviest, u, v, 0);
+        replacements++;
+        return true;
+    }
+
+    private void setSlot(int slot, Edge edge, int u, int v, long sequence) {
+        treeEdges[slot] = edge;
+        treeFrom[slot] = u;
+        treeTo[slot] = v;
+        arrival[slot] = sequence;
+    }
+
+    private void ensureSlots(int count) {
+        if (count > treeEdges.length) {
+            int capacity = treeEdges.length * 2;
+            treeEdges = Arrays.copyOf(treeEdges, capacity);
+            treeFrom = Arrays.copyOf(treeFrom, capacity);
+            treeTo = Arrays.copyOf(treeTo, capacity);
+            arrival = Arrays.copyOf(arrival, capacity);
+            path = new int[capacity];
+        }
+    }
+
+    private int compareSlots(int a, int b) {
+        return compare(treeEdges[a], arrival[a], treeEdges[b], arrival[b]);
+    }
+
+    // Edge.compareTo, тең болса ерте келген қыр жеңіл (Kruskal-дағы тұрақты сұрыптау сияқты)
+    private static int compare(Edge a, long arrivalA, Edge b, long arrivalB) {
+        int byEdge = a.compareTo(b);
+        return byEdge != 0 ? byEdge : Long.compare(arrivalA, arrivalB);
+    }
+
+    private int vertexId(String name) {
+        Integer id = vertexIds.get(name);
+        if (id == null) {
+            id = vertexNames.size();
+            vertexIds.put(name, id);
+            vertexNames.add(name);
+            forest.ensureVertex(id);
+            components.grow(id + 1);
+        }
+        return id;
+    }
+
+    // Ағымдағы ең кіші қаңқа орман, Kruskal қосу ретімен
+    public List<Edge> getForestEdges() {
+        Integer[] slots = new Integer[treeSize];
+        for (int i = 0; i < treeSize; i++) {
+            slots[i] = i;
+        }
+        Arrays.sort(slots, this::compareSlots);
+        List<Edge> edges = new ArrayList<>(treeSize);
+        for (int slot : slots) {
+            edges.add(treeEdges[slot]);
+        }
+        return edges;
+    }
+
+    // Kruskal.findMST(Graph) пішініндегі нәтиже: орман қаңқа ағаш болмаса, құны -1 және қырлар бос
+    public Kruskal.Result toResult() {
+        double executionTimeMs = processingNanos / 1_000_000.0;
+        int ops = Kruskal.saturate(operations);
+        if (!isSpanningTree()) {
+            return new Kruskal.Result(new ArrayList<>(), -1, ops, 0);
+        }
+        Kruskal.Result result = new Kruskal.Result(getForestEdges(),
+                (int) Math.min(totalCost, Integer.MAX_VALUE), ops, executionTimeMs);
+        result.totalWeight = totalCost;
+        return result;
+    }
+
+    public long getTotalCost() {
+        return totalCost;
+    }
+
+    public boolean isSpanningTree() {
+        return !vertexNames.isEmpty() && treeSize == vertexNames.size() - 1;
+    }
+
+    public int getVertexCount() {
+        return vertexNames.size();
+    }
+
+    public int getComponentCount() {
+        return components.getComponentCount();
+    }
+
+    public int getTreeEdgeCount() {
+        return treeSize;
+    }
+
+    public long getEdgesSeen() {
+        return edgesSeen;
+    }
+
+    public long getReplacements() {
+        return replacements;
+    }
+
+    public long getOperationsCount() {
+        return operations;
+    }
+}
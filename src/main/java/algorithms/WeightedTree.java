@@ -0,0 +1,40 @@
+package algorithms;
+
+import graph.EdgeStore;
+
+// EdgeStore үстіндегі Prim/Kruskal нәтижесі: ағаш қырларының индекстері және салмақ түріне сай қосынды.
+// Граф байланыспаса, индекстер бос, ал totalWeight пен totalCost -1 болады.
+public class WeightedTree {
+    public final EdgeStore store;
+    public final boolean connected;
+    public final int[] mstEdgeIds;
+    public final long totalWeight; // дәл қосынды, тек бүтін салмақтар үшін (double қоймасында 0)
+    public final double totalCost;
+    public final int operationsCount;
+    public final double executionTimeMs;
+
+    WeightedTree(EdgeStore store, int[] mstEdgeIds, boolean connected, int operationsCount, double executionTimeMs) {
+        this.store = store;
+        this.connected = connected;
+        this.operationsCount = operationsCount;
+        if (!connected) {
+            this.mstEdgeIds = new int[0];
+            this.totalWeight = -1;
+            this.totalCost = -1;
+            this.executionTimeMs = 0;
+            return;
+        }
+        long weight = 0;
+        double cost = 0;
+        for (int e : mstEdgeIds) {
+            if (store.isIntegral()) {
+                weight += store.sortKey(e);
+            }
+            cost += store.weightAsDouble(e);
+        }
+        this.mstEdgeIds = mstEdgeIds;
+        this.totalWeight = weight;
+        this.totalCost = store.isIntegral() ? weight : cost;
+        this.executionTimeMs = executionTimeMs;
+    }
+}
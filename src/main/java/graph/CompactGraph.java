@@ -0,0 +1,215 @@
+package graph;
+
+import java.util.*;
+
+public class CompactGraph {
+    private final String[] vertexNames;
+    private Map<String, Integer> vertexIds;
+
+    // Бастапқы қырлар (енгізу ретімен): қыр индексі -> төбелер мен салмақ
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private final int[] edgeWeight;
+
+    // CSR көршілес құрылымы: v төбесінің көршілері offsets[v]..offsets[v + 1] аралығында
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] edgeIds;
+
+    public CompactGraph(String[] vertexNames, int[] edgeFrom, int[] edgeTo, int[] edgeWeight) {
+        this(vertexNames, edgeFrom, edgeTo, edgeWeight, buildAdjacency(vertexNames.length, edgeFrom, edgeTo, edgeWeight));
+    }
+
+    private CompactGraph(String[] vertexNames, int[] edgeFrom, int[] edgeTo, int[] edgeWeight, int[][] adjacency) {
+        this.vertexNames = vertexNames;
+        this.edgeFrom = edgeFrom;
+        this.edgeTo = edgeTo;
+        this.edgeWeight = edgeWeight;
+        this.offsets = adjacency[0];
+        this.targets = adjacency[1];
+        this.weights = adjacency[2];
+        this.edgeIds = adjacency[3];
+    }
+
+    // Дайын CSR жиымдарынан құру (мысалы, бинарлық файлдан жүктегенде); жиымдар тексерілмейді
+    public static CompactGraph fromCsr(String[] vertexNames, int[] edgeFrom, int[] edgeTo, int[] edgeWeight,
+                                       int[] offsets, int[] targets, int[] weights, int[] edgeIds) {
+        return new CompactGraph(vertexNames, edgeFrom, edgeTo, edgeWeight,
+                new int[][]{offsets, targets, weights, edgeIds});
+    }
+
+    private static int[][] buildAdjacency(int vertexCount, int[] edgeFrom, int[] edgeTo, int[] edgeWeight) {
+        int edgeCount = edgeFrom.length;
+        int[] offsets = new int[vertexCount + 1];
+        int[] targets = new int[2 * edgeCount];
+        int[] weights = new int[2 * edgeCount];
+        int[] edgeIds = new int[2 * edgeCount];
+
+        // Әр төбенің дәрежесін санау
+        for (int e = 0; e < edgeCount; e++) {
+            offsets[edgeFrom[e] + 1]++;
+            offsets[edgeTo[e] + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        // Екі жақты граф үшін әр қырды екі бағытта орналастыру
+        int[] cursor = Arrays.copyOf(offsets, vertexCount);
+        for (int e = 0; e < edgeCount; e++) {
+            int slot = cursor[edgeFrom[e]]++;
+            targets[slot] = edgeTo[e];
+            weights[slot] = edgeWeight[e];
+            edgeIds[slot] = e;
+
+            slot = cursor[edgeTo[e]]++;
+            targets[slot] = edgeFrom[e];
+            weights[slot] = edgeWeight[e];
+            edgeIds[slot] = e;
+        }
+        return new int[][]{offsets, targets, weights, edgeIds};
+    }
+
+    public static CompactGraph from(List<String> nodes, List<Edge> edges) {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> names = new ArrayList<>(nodes.size());
+        for (String node : nodes) {
+            if (ids.putIfAbsent(node, names.size()) == null) {
+                names.add(node);
+            }
+        }
+
+        int[] from = new int[edges.size()];
+        int[] to = new int[edges.size()];
+        int[] weight = new int[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            Edge edge = edges.get(i);
+            from[i] = intern(edge.from, ids, names);
+            to[i] = intern(edge.to, ids, names);
+            weight[i] = edge.weight;
+        }
+
+        CompactGraph graph = new CompactGraph(names.toArray(new String[0]), from, to, weight);
+        graph.vertexIds = ids;
+        return graph;
+    }
+
+    // Түйіндер тізімінде жоқ төбелерді де кестеге қосамыз
+    private static int intern(String name, Map<String, Integer> ids, List<String> names) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = names.size();
+            ids.put(name, id);
+            names.add(name);
+        }
+        return id;
+    }
+
+    public int getVertexId(String name) {
+        if (vertexIds == null) {
+            Map<String, Integer> ids = new HashMap<>();
+            for (int v = 0; v < vertexNames.length; v++) {
+                ids.put(vertexNames[v], v);
+            }
+            vertexIds = ids;
+        }
+        Integer id = vertexIds.get(name);
+        return id == null ? -1 : id;
+    }
+
+    public String getVertexName(int id) {
+        return vertexNames[id];
+    }
+
+    public String[] getVertexNames() {
+        return vertexNames;
+    }
+
+    public int getVertexCount() {
+        return vertexNames.length;
+    }
+
+    public int getEdgeCount() {
+        return edgeFrom.length;
+    }
+
+    public int[] getEdgeFrom() {
+        return edgeFrom;
+    }
+
+    public int[] getEdgeTo() {
+        return edgeTo;
+    }
+
+    public int[] getEdgeWeight() {
+        return edgeWeight;
+    }
+
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    public int[] getTargets() {
+        return targets;
+    }
+
+    public int[] getWeights() {
+        return weights;
+    }
+
+    public int[] getEdgeIds() {
+        return edgeIds;
+    }
+
+    // Қыр индексі бойынша Edge объектісін жасау (тек нәтижелерді шығарғанда)
+    public Edge toEdge(int edgeId) {
+        return new Edge(vertexNames[edgeFrom[edgeId]], vertexNames[edgeTo[edgeId]], edgeWeight[edgeId]);
+    }
+
+    // Қырларды бірден жиымдарға жинайтын құрастырушы (Edge объектілерінсіз)
+    public static class Builder {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private int[] from = new int[16];
+        private int[] to = new int[16];
+        private int[] weight = new int[16];
+        private int edgeCount;
+
+        public int addVertex(String name) {
+            return intern(name, ids, names);
+        }
+
+        public void addEdge(String fromName, String toName, int edgeWeight) {
+            addEdge(addVertex(fromName), addVertex(toName), edgeWeight);
+        }
+
+        public void addEdge(int fromId, int toId, int edgeWeight) {
+            if (edgeCount == from.length) {
+                int capacity = edgeCount * 2;
+                from = Arrays.copyOf(from, capacity);
+                to = Arrays.copyOf(to, capacity);
+                weight = Arrays.copyOf(weight, capacity);
+            }
+            from[edgeCount] = fromId;
+            to[edgeCount] = toId;
+            weight[edgeCount] = edgeWeight;
+            edgeCount++;
+        }
+
+        public int getVertexCount() {
+            return names.size();
+        }
+
+        public int getEdgeCount() {
+            return edgeCount;
+        }
+
+        public CompactGraph build() {
+            CompactGraph graph = new CompactGraph(names.toArray(new String[0]),
+                    Arrays.copyOf(from, edgeCount), Arrays.copyOf(to, edgeCount), Arrays.copyOf(weight, edgeCount));
+            graph.vertexIds = ids;
+            return graph;
+        }
+    }
+}
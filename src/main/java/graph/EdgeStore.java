@@ -0,0 +1,214 @@
+package graph;
+
+// Қырлардың struct-of-arrays қоймасы: төбелер int жиымдарда, салмақтар ішкі класта примитив жиымда (int, long, double).
+// Реттеу компаратор қолданбайды: әр салмақ таңбалы long кілтке айналады (sortKey), ал тең кілттер қыр индексі
+// бойынша ажыратылады - CompactGraph-тағы (салмақ, индекс) ретімен бірдей.
+public abstract class EdgeStore {
+    private static final int RADIX_BITS = 11;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int RADIX_PASSES = (Long.SIZE + RADIX_BITS - 1) / RADIX_BITS;
+
+    private final String[] vertexNames;
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private int[] order;
+
+    protected EdgeStore(String[] vertexNames, int[] edgeFrom, int[] edgeTo, int weightCount) {
+        if (edgeFrom.length != edgeTo.length || edgeFrom.length != weightCount) {
+            throw new IllegalArgumentException("Edge arrays must have the same length");
+        }
+        this.vertexNames = vertexNames;
+        this.edgeFrom = edgeFrom;
+        this.edgeTo = edgeTo;
+    }
+
+    // Таңбалы long ретімен салыстырғанда салмақ ретін беретін кілт; бүтін салмақтар үшін салмақтың өзі
+    public abstract long sortKey(int edge);
+
+    public abstract double weightAsDouble(int edge);
+
+    // true болса, sortKey - дәл салмақ және қосындысы long-та есептеледі
+    public abstract boolean isIntegral();
+
+    public int getVertexCount() {
+        return vertexNames.length;
+    }
+
+    public int getEdgeCount() {
+        return edgeFrom.length;
+    }
+
+    public String getVertexName(int id) {
+        return vertexNames[id];
+    }
+
+    public String[] getVertexNames() {
+        return vertexNames;
+    }
+
+    public int[] getEdgeFrom() {
+        return edgeFrom;
+    }
+
+    public int[] getEdgeTo() {
+        return edgeTo;
+    }
+
+    // (sortKey, индекс) бойынша реттелген қыр индекстері. LSD radix sort тұрақты, ал бастапқы рет индекс ретімен,
+    // сондықтан тең салмақтар индекс бойынша қалады. Барлық қырларда бірдей цифр разряды өткізіліп жіберіледі.
+    public int[] edgesByWeight() {
+        if (order != null) {
+            return order;
+        }
+        int edgeCount = getEdgeCount();
+        long[] keys = new long[edgeCount];
+        int[] ids = new int[edgeCount];
+        int[][] counts = new int[RADIX_PASSES][RADIX + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            long key = sortKey(e) ^ Long.MIN_VALUE; // таңбасыз ретке көшу
+            keys[e] = key;
+            ids[e] = e;
+            for (int pass = 0; pass < RADIX_PASSES; pass++) {
+                counts[pass][digit(key, pass) + 1]++;
+            }
+        }
+
+        long[] keyBuffer = new long[edgeCount];
+        int[] idBuffer = new int[edgeCount];
+        for (int pass = 0; pass < RADIX_PASSES; pass++) {
+            int[] count = counts[pass];
+            if (edgeCount == 0 || count[digit(keys[0], pass) + 1] == edgeCount) {
+                continue;
+            }
+            for (int d = 0; d < RADIX; d++) {
+                count[d + 1] += count[d];
+            }
+            for (int i = 0; i < edgeCount; i++) {
+                int slot = count[digit(keys[i], pass)]++;
+                keyBuffer[slot] = keys[i];
+                idBuffer[slot] = ids[i];
+            }
+            long[] swapKeys = keys;
+            keys = keyBuffer;
+            keyBuffer = swapKeys;
+            int[] swapIds = ids;
+            ids = idBuffer;
+            idBuffer = swapIds;
+        }
+        order = ids;
+        return ids;
+    }
+
+    private static int digit(long key, int pass) {
+        return (int) (key >>> (pass * RADIX_BITS)) & (RADIX - 1);
+    }
+
+    // Салмақтары рангтер болатын CompactGraph: ранг = қырдың edgesByWeight() ішіндегі орны.
+    // Рангтер әртүрлі және ретті сақтайды, сондықтан бүтін кілтті Prim/Kruskal бұл графта дәл сол ағашты табады,
+    // ал қыр индекстері осы қоймадағы индекстермен бірдей.
+    public CompactGraph toRankGraph() {
+        int[] byWeight = edgesByWeight();
+        int[] rank = new int[byWeight.length];
+        for (int i = 0; i < byWeight.length; i++) {
+            rank[byWeight[i]] = i;
+        }
+        return new CompactGraph(vertexNames, edgeFrom, edgeTo, rank);
+    }
+
+    public static final class IntWeights extends EdgeStore {
+        private final int[] weight;
+
+        public IntWeights(String[] vertexNames, int[] edgeFrom, int[] edgeTo, int[] weight) {
+            super(vertexNames, edgeFrom, edgeTo, weight.length);
+            this.weight = weight;
+        }
+
+        public static IntWeights from(CompactGraph graph) {
+            return new IntWeights(graph.getVertexNames(), graph.getEdgeFrom(), graph.getEdgeTo(),
+                    graph.getEdgeWeight());
+        }
+
+        public int getWeight(int edge) {
+            return weight[edge];
+        }
+
+        @Override
+        public long sortKey(int edge) {
+            return weight[edge];
+        }
+
+        @Override
+        public double weightAsDouble(int edge) {
+            return weight[edge];
+        }
+
+        @Override
+        public boolean isIntegral() {
+            return true;
+        }
+    }
+
+    public static final class LongWeights extends EdgeStore {
+        private final long[] weight;
+
+        public LongWeights(String[] vertexNames, int[] edgeFrom, int[] edgeTo, long[] weight) {
+            super(vertexNames, edgeFrom, edgeTo, weight.length);
+            this.weight = weight;
+        }
+
+        public long getWeight(int edge) {
+            return weight[edge];
+        }
+
+        @Override
+        public long sortKey(int edge) {
+            return weight[edge];
+        }
+
+        @Override
+        public double weightAsDouble(int edge) {
+            return weight[edge];
+        }
+
+        @Override
+        public boolean isIntegral() {
+            return true;
+        }
+    }
+
+    public static final class DoubleWeights extends EdgeStore {
+        private final double[] weight;
+
+        // NaN салмақтардың реті жоқ; -0.0 мен 0.0 тең саналады
+        public DoubleWeights(String[] vertexNames, int[] edgeFrom, int[] edgeTo, double[] weight) {
+            super(vertexNames, edgeFrom, edgeTo, weight.length);
+            for (int e = 0; e < weight.length; e++) {
+                if (Double.isNaN(weight[e])) {
+                    throw new IllegalArgumentException("Edge " + e + " has NaN weight");
+                }
+            }
+            this.weight = weight;
+        }
+
+        public double getWeight(int edge) {
+            return weight[edge];
+        }
+
+        // IEEE 754 биттері: теріс сандарда мантисса мен экспонента аударылады, сонда таңбалы long реті сандар ретіне тең
+        @Override
+        public long sortKey(int edge) {
+            long bits = Double.doubleToLongBits(weight[edge] + 0.0);
+            return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+
+        @Override
+        public double weightAsDouble(int edge) {
+            return weight[edge];
+        }
+
+        @Override
+        public boolean isIntegral() {
+            return false;
+        }
+    }
+}
@@ -5,44 +5,56 @@ import java.util.*;
 public class Graph {
     private final List<String> nodes;
     private final List<Edge> edges;
-    private final Map<String, List<Edge>> adjacencyList;
+    private Map<String, List<Edge>> adjacencyList;
+    private CompactGraph compact;
 
     public Graph(List<String> nodes, List<Edge> edges) {
         this.nodes = new ArrayList<>(nodes);
         this.edges = new ArrayList<>(edges);
-        this.adjacencyList = new HashMap<>();
+    }
+
+    public List<String> getNodes() {
+        return nodes;
+    }
+
+    public List<Edge> getEdges() {
+        return edges;
+    }
+
+    // Көршілес тізімдер тек алғаш сұралғанда құрылады
+    public synchronized Map<String, List<Edge>> getAdjacencyList() {
+        if (adjacencyList == null) {
+            adjacencyList = buildAdjacencyList();
+        }
+        return adjacencyList;
+    }
+
+    private Map<String, List<Edge>> buildAdjacencyList() {
+        Map<String, List<Edge>> adjacency = new HashMap<>();
 
         // Түйіндер үшін көршілес тізімдер құру
         for (String node : nodes) {
-            adjacencyList.put(node, new ArrayList<>()); // Әр түйін үшін жаңа бос тізім
+            adjacency.put(node, new ArrayList<>()); // Әр түйін үшін жаңа бос тізім
         }
 
         // Қабырғаларды қосу
         for (Edge edge : edges) {
             // Түйіндер үшін көршілес тізімдерге қабырғаларды қосу
-            if (!adjacencyList.containsKey(edge.from)) {
-                adjacencyList.put(edge.from, new ArrayList<>());
-            }
-            adjacencyList.get(edge.from).add(edge);
+            adjacency.computeIfAbsent(edge.from, k -> new ArrayList<>()).add(edge);
 
             // Екі жақты граф үшін көршілес тізімдерге қабырғаларды қосу
-            if (!adjacencyList.containsKey(edge.to)) {
-                adjacencyList.put(edge.to, new ArrayList<>());
-            }
-            adjacencyList.get(edge.to).add(new Edge(edge.to, edge.from, edge.weight));
+            adjacency.computeIfAbsent(edge.to, k -> new ArrayList<>())
+                    .add(new Edge(edge.to, edge.from, edge.weight));
         }
+        return adjacency;
     }
 
-    public List<String> getNodes() {
-        return nodes;
-    }
-
-    public List<Edge> getEdges() {
-        return edges;
-    }
-
-    public Map<String, List<Edge>> getAdjacencyList() {
-        return adjacencyList;
+    // Сол түйіндер мен қырлардан ықшам CSR көрінісін құру
+    public synchronized CompactGraph toCompact() {
+        if (compact == null) {
+            compact = CompactGraph.from(nodes, edges);
+        }
+        return compact;
     }
 
     public int getVertexCount() {
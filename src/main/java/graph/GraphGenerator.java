@@ -0,0 +1,227 @@
+package graph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Тұқым (seed) арқылы қайталанатын синтетикалық графтар генераторы.
+// Қырлар EdgeSink-ке бір-бірден беріледі, сондықтан үлкен графтарды файлға тікелей жазуға болады.
+public class GraphGenerator {
+    public enum Shape {
+        RANDOM,     // G(n, m): m = n * degree / 2 кездейсоқ қыр
+        GEOMETRIC,  // бірлік шаршыдағы нүктелер, орташа дәреже degree болатын радиус ішінде қосылады
+        GRID,       // жолдар мен бағандар бойынша көршілес тор
+        POWER_LAW,  // Барабаши-Альберт: әр жаңа төбе degree / 2 қырмен дәрежеге пропорционал қосылады
+        COMPLETE    // барлық жұптар
+    }
+
+    public interface EdgeSink {
+        void accept(int from, int to, int weight) throws IOException;
+    }
+
+    public static final int DEFAULT_MAX_WEIGHT = 1000;
+
+    private final Shape shape;
+    private final int vertexCount;
+    private final int degree;
+    private final long seed;
+    private int maxWeight = DEFAULT_MAX_WEIGHT;
+    private boolean connected;
+
+    public GraphGenerator(Shape shape, int vertexCount, int degree, long seed) {
+        if (vertexCount < 0 || degree < 0) {
+            throw new IllegalArgumentException("Vertex count and degree must be non-negative");
+        }
+        this.shape = shape;
+        this.vertexCount = vertexCount;
+        this.degree = degree;
+        this.seed = seed;
+    }
+
+    // Салмақтар [1, maxWeight] аралығында (GEOMETRIC үшін қашықтық осы шкалаға келтіріледі)
+    public GraphGenerator maxWeight(int maxWeight) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("Max weight must be positive: " + maxWeight);
+        }
+        this.maxWeight = maxWeight;
+        return this;
+    }
+
+    // Алдымен кездейсоқ қаңқа ағаш салынады, сондықтан граф міндетті түрде байланысты болады
+    public GraphGenerator connected(boolean connected) {
+        this.connected = connected;
+        return this;
+    }
+
+    public Shape getShape() {
+        return shape;
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public static String vertexName(int id) {
+        return "V" + id;
+    }
+
+    public CompactGraph toCompact() {
+        CompactGraph.Builder builder = new CompactGraph.Builder();
+        for (int v = 0; v < vertexCount; v++) {
+            builder.addVertex(vertexName(v));
+        }
+        try {
+            generate(builder::addEdge);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.build();
+    }
+
+    public void generate(EdgeSink sink) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        if (connected) {
+            for (int v = 1; v < vertexCount; v++) {
+                sink.accept(random.nextInt(v), v, randomWeight(random));
+            }
+        }
+
+        switch (shape) {
+            case RANDOM:
+                generateRandom(random, sink);
+                break;
+            case GEOMETRIC:
+                generateGeometric(random, sink);
+                break;
+            case GRID:
+                generateGrid(random, sink);
+                break;
+            case POWER_LAW:
+                generatePowerLaw(random, sink);
+                break;
+            case COMPLETE:
+                generateComplete(random, sink);
+                break;
+        }
+    }
+
+    private int randomWeight(SplittableRandom random) {
+        return 1 + random.nextInt(maxWeight);
+    }
+
+    private void generateRandom(SplittableRandom random, EdgeSink sink) throws IOException {
+        if (vertexCount < 2) {
+            return;
+        }
+        long edgeCount = (long) vertexCount * degree / 2;
+        for (long i = 0; i < edgeCount; i++) {
+            int from = random.nextInt(vertexCount);
+            int to = random.nextInt(vertexCount - 1);
+            if (to >= from) {
+                to++; // өзіне-өзі қыр болмайды
+            }
+            sink.accept(from, to, randomWeight(random));
+        }
+    }
+
+    // Ұяшық өлшемі радиусқа тең тор: әр нүкте тек көрші 9 ұяшықпен салыстырылады
+    private void generateGeometric(SplittableRandom random, EdgeSink sink) throws IOException {
+        if (vertexCount < 2 || degree == 0) {
+            return; // радиус 0: тек қаңқа қырлары қалады
+        }
+        double[] x = new double[vertexCount];
+        double[] y = new double[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            x[v] = random.nextDouble();
+            y[v] = random.nextDouble();
+        }
+
+        double radius = Math.min(1.0, Math.sqrt(degree / (Math.PI * vertexCount)));
+        // Ұяшық радиустан кіші болмауы керек; саны sqrt(vertexCount)-пен шектеледі, әйтпесе кестелер толып кетеді
+        long cellsByRadius = (long) Math.min(1.0 / radius, Integer.MAX_VALUE);
+        int cellsPerSide = (int) Math.max(1, Math.min(cellsByRadius, (long) Math.sqrt(vertexCount)));
+        int[] cellOf = new int[vertexCount];
+        int[] cellStart = new int[cellsPerSide * cellsPerSide + 1];
+        for (int v = 0; v < vertexCount; v++) {
+            int cx = Math.min((int) (x[v] * cellsPerSide), cellsPerSide - 1);
+            int cy = Math.min((int) (y[v] * cellsPerSide), cellsPerSide - 1);
+            cellOf[v] = cy * cellsPerSide + cx;
+            cellStart[cellOf[v] + 1]++;
+        }
+        for (int c = 0; c < cellsPerSide * cellsPerSide; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        int[] cursor = Arrays.copyOf(cellStart, cellsPerSide * cellsPerSide);
+        int[] byCell = new int[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            byCell[cursor[cellOf[v]]++] = v;
+        }
+
+        double radiusSquared = radius * radius;
+        for (int u = 0; u < vertexCount; u++) {
+            int cx = cellOf[u] % cellsPerSide;
+            int cy = cellOf[u] / cellsPerSide;
+            for (int ny = Math.max(cy - 1, 0); ny <= Math.min(cy + 1, cellsPerSide - 1); ny++) {
+                for (int nx = Math.max(cx - 1, 0); nx <= Math.min(cx + 1, cellsPerSide - 1); nx++) {
+                    int cell = ny * cellsPerSide + nx;
+                    for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                        int v = byCell[i];
+                        if (v <= u) {
+                            continue; // әр жұп бір рет
+                        }
+                        double dx = x[u] - x[v];
+                        double dy = y[u] - y[v];
+                        double distanceSquared = dx * dx + dy * dy;
+                        if (distanceSquared <= radiusSquared) {
+                            int weight = 1 + (int) (Math.sqrt(distanceSquared) / radius * (maxWeight - 1));
+                            sink.accept(u, v, weight);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Төбелер саны дәл vertexCount: соңғы жол толық болмауы мүмкін
+    private void generateGrid(SplittableRandom random, EdgeSink sink) throws IOException {
+        int columns = Math.max(1, (int) Math.ceil(Math.sqrt(vertexCount)));
+        for (int v = 0; v < vertexCount; v++) {
+            if ((v + 1) % columns != 0 && v + 1 < vertexCount) {
+                sink.accept(v, v + 1, randomWeight(random));
+            }
+            if (v + columns < vertexCount) {
+                sink.accept(v, v + columns, randomWeight(random));
+            }
+        }
+    }
+
+    // Қыр ұштарының тізімінен біркелкі таңдау = дәрежеге пропорционал таңдау
+    private void generatePowerLaw(SplittableRandom random, EdgeSink sink) throws IOException {
+        int edgesPerVertex = Math.max(1, degree / 2);
+        int[] endpoints = new int[(int) Math.min(Integer.MAX_VALUE - 8, 2L * edgesPerVertex * vertexCount)];
+        int endpointCount = 0;
+
+        for (int v = 1; v < vertexCount; v++) {
+            int links = Math.min(edgesPerVertex, v);
+            for (int j = 0; j < links; j++) {
+                int target = endpointCount == 0 || v <= edgesPerVertex
+                        ? random.nextInt(v)
+                        : endpoints[random.nextInt(endpointCount)];
+                sink.accept(target, v, randomWeight(random));
+                if (endpointCount + 2 <= endpoints.length) {
+                    endpoints[endpointCount++] = target;
+                    endpoints[endpointCount++] = v;
+                }
+            }
+        }
+    }
+
+    private void generateComplete(SplittableRandom random, EdgeSink sink) throws IOException {
+        for (int u = 0; u < vertexCount; u++) {
+            for (int v = u + 1; v < vertexCount; v++) {
+                sink.accept(u, v, randomWeight(random));
+            }
+        }
+    }
+}
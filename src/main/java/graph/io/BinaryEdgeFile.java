@@ -0,0 +1,265 @@
+package graph.io;
+
+import graph.GraphGenerator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Бір графтың қырлар тізімі ретіндегі бинарлық пішімі (little-endian), сыртқы жадтағы Kruskal үшін:
+//
+//   Тақырып:  magic "MSTE" | version | vertexCount | names (0 = бар, -1 = жоқ) | edgeCount (long)
+//   Қырлар:   (from, to, weight) int үштіктері, edgeCount рет
+//   Аттар:    nameOffsets int[vertexCount + 1] | names UTF-8 (names = 0 болса)
+//
+// BinaryGraphFile-дан айырмашылығы: CSR жоқ және қырлар ретімен оқылады, сондықтан файл жадқа сыймауы мүмкін.
+// Аттар жоқ болса, төбелер GraphGenerator.vertexName(id) арқылы аталады.
+public final class BinaryEdgeFile {
+    static final int MAGIC = 0x4D535445; // "MSTE"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 24;
+    static final int EDGE_BYTES = 3 * Integer.BYTES;
+
+    private BinaryEdgeFile() {
+    }
+
+    // JSON кіріс файлындағы бір графты қырлар файлына айналдыру; жазылған қырлар санын қайтарады
+    public static long convert(Path jsonPath, int graphId, Path edgePath) throws IOException {
+        JsonEdgeInput input = new JsonEdgeInput(jsonPath, graphId);
+        try (Writer writer = new Writer(edgePath)) {
+            input.readEdges(writer);
+            String[] names = new String[input.getVertexCount()];
+            for (int v = 0; v < names.length; v++) {
+                names[v] = input.getVertexName(v);
+            }
+            writer.setVertexNames(names);
+            return writer.getEdgeCount();
+        }
+    }
+
+    public static class Writer implements GraphGenerator.EdgeSink, Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+        private long edgeCount;
+        private int vertexCount;
+        private String[] vertexNames;
+
+        public Writer(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            buffer.position(HEADER_BYTES); // тақырып close() кезінде жазылады
+        }
+
+        @Override
+        public void accept(int from, int to, int weight) throws IOException {
+            if (buffer.remaining() < EDGE_BYTES) {
+                flush();
+            }
+            buffer.putInt(from).putInt(to).putInt(weight);
+            vertexCount = Math.max(vertexCount, Math.max(from, to) + 1);
+            edgeCount++;
+        }
+
+        // Міндетті емес: берілсе, төбелер саны аттар санына тең болады
+        public void setVertexNames(String[] vertexNames) {
+            this.vertexNames = vertexNames;
+            this.vertexCount = Math.max(vertexCount, vertexNames.length);
+        }
+
+        public long getEdgeCount() {
+            return edgeCount;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void writeNames() throws IOException {
+            int[] nameOffsets = new int[vertexCount + 1];
+            byte[][] encoded = new byte[vertexCount][];
+            for (int v = 0; v < vertexCount; v++) {
+                String name = v < vertexNames.length ? vertexNames[v] : GraphGenerator.vertexName(v);
+                encoded[v] = name.getBytes(StandardCharsets.UTF_8);
+                nameOffsets[v + 1] = nameOffsets[v] + encoded[v].length;
+            }
+            for (int offset : nameOffsets) {
+                if (buffer.remaining() < Integer.BYTES) {
+                    flush();
+                }
+                buffer.putInt(offset);
+            }
+            for (byte[] name : encoded) {
+                int index = 0;
+                while (index < name.length) {
+                    if (!buffer.hasRemaining()) {
+                        flush();
+                    }
+                    int count = Math.min(buffer.remaining(), name.length - index);
+                    buffer.put(name, index, count);
+                    index += count;
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (vertexNames != null) {
+                    writeNames();
+                }
+                flush();
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putInt(VERSION).putInt(vertexCount)
+                        .putInt(vertexNames == null ? -1 : 0).putLong(edgeCount).flip();
+                channel.write(header, 0);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    public static class Reader implements EdgeInput, Closeable {
+        private final Path path;
+        private final FileChannel channel;
+        private final int vertexCount;
+        private final boolean hasNames;
+        private final long edgeCount;
+        private String[] vertexNames;
+        private long bytesRead;
+
+        public Reader(Path path) throws IOException {
+            this.path = path;
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                ByteBuffer header = readFully(0, HEADER_BYTES);
+                if (header.getInt() != MAGIC) {
+                    throw new IOException("Not a binary edge file: " + path);
+                }
+                int version = header.getInt();
+                if (version != VERSION) {
+                    throw new IOException("Unsupported binary edge file version " + version + ": " + path);
+                }
+                vertexCount = header.getInt();
+                hasNames = header.getInt() >= 0;
+                edgeCount = header.getLong();
+                bytesRead = HEADER_BYTES;
+                if (vertexCount < 0 || edgeCount < 0) {
+                    throw new IOException("Negative vertex or edge count (" + vertexCount + ", " + edgeCount
+                            + "): " + path);
+                }
+                if (edgeCount > (channel.size() - HEADER_BYTES) / EDGE_BYTES) {
+                    throw new IOException("Truncated binary edge file: " + path);
+                }
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        public long getEdgeCount() {
+            return edgeCount;
+        }
+
+        @Override
+        public void readEdges(GraphGenerator.EdgeSink sink) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(EDGE_BYTES << 14).order(ByteOrder.LITTLE_ENDIAN);
+            int[] chunk = new int[3 << 14];
+            long position = HEADER_BYTES;
+            long remaining = edgeCount;
+            while (remaining > 0) {
+                int edges = (int) Math.min(remaining, 1 << 14);
+                buffer.clear().limit(edges * EDGE_BYTES);
+                while (buffer.hasRemaining()) {
+                    int n = channel.read(buffer, position + buffer.position());
+                    if (n < 0) {
+                        throw new IOException("Truncated binary edge file: " + path);
+                    }
+                }
+                bytesRead += edges * EDGE_BYTES;
+                buffer.flip();
+                IntBuffer ints = buffer.asIntBuffer();
+                ints.get(chunk, 0, 3 * edges);
+                for (int i = 0; i < 3 * edges; i += 3) {
+                    int from = chunk[i];
+                    int to = chunk[i + 1];
+                    if (from < 0 || from >= vertexCount || to < 0 || to >= vertexCount) {
+                        long edge = (position - HEADER_BYTES) / EDGE_BYTES + i / 3;
+                        throw new IOException("Edge " + edge + " (" + from + ", " + to + ") is outside vertex range "
+                                + vertexCount + ": " + path);
+                    }
+                    sink.accept(from, to, chunk[i + 2]);
+                }
+                position += (long) edges * EDGE_BYTES;
+                remaining -= edges;
+            }
+        }
+
+        @Override
+        public int getVertexCount() {
+            return vertexCount;
+        }
+
+        @Override
+        public String getVertexName(int id) {
+            if (!hasNames) {
+                return GraphGenerator.vertexName(id);
+            }
+            if (vertexNames == null) {
+                try {
+                    loadNames();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return vertexNames[id];
+        }
+
+        private void loadNames() throws IOException {
+            long offset = HEADER_BYTES + edgeCount * EDGE_BYTES;
+            ByteBuffer offsetsBuffer = readFully(offset, (vertexCount + 1) * Integer.BYTES);
+            int[] nameOffsets = new int[vertexCount + 1];
+            offsetsBuffer.asIntBuffer().get(nameOffsets);
+            ByteBuffer names = readFully(offset + (long) (vertexCount + 1) * Integer.BYTES, nameOffsets[vertexCount]);
+            String[] loaded = new String[vertexCount];
+            byte[] bytes = new byte[nameOffsets[vertexCount]];
+            names.get(bytes);
+            for (int v = 0; v < vertexCount; v++) {
+                loaded[v] = new String(bytes, nameOffsets[v], nameOffsets[v + 1] - nameOffsets[v],
+                        StandardCharsets.UTF_8);
+            }
+            bytesRead += (vertexCount + 1L) * Integer.BYTES + bytes.length;
+            vertexNames = loaded;
+        }
+
+        private ByteBuffer readFully(long offset, int size) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("Truncated binary edge file: " + path);
+                }
+            }
+            return buffer.flip();
+        }
+
+        @Override
+        public long getBytesRead() {
+            return bytesRead;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package graph.io;
+
+import graph.CompactGraph;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Ықшам бинарлық граф пішімі (little-endian, барлық өрістер 4 байтқа тураланған):
+//
+//   Тақырып:  magic "MSTG" | version | graphCount | 0
+//   Әр граф:  id | vertexCount (n) | edgeCount (m) | typeBytes (-1 = жоқ) | nameBytes
+//             type UTF-8 | nameOffsets int[n + 1] | names UTF-8
+//             edgeFrom int[m] | edgeTo int[m] | edgeWeight int[m]
+//             offsets int[n + 1] | targets int[2m] | weights int[2m] | edgeIds int[2m]
+//
+// CSR жиымдары дайын күйде сақталады, сондықтан оқу кезінде талдау да, көршілес құрылымды қайта құру да жоқ:
+// 2 ГБ-қа дейінгі файл бір рет бейнеленіп, әр жиым одан bulk көшірумен алынады.
+// Тақырып өлшемдері файл өлшемімен, CSR жиымдары ауқым мен реттілікке тексеріледі.
+public final class BinaryGraphFile {
+    static final int MAGIC = 0x4D535447; // "MSTG"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+
+    private BinaryGraphFile() {
+    }
+
+    // ass_3_input.json пішініндегі файлды бинарлық пішінге айналдыру
+    public static int convert(Path jsonPath, Path binaryPath) throws IOException {
+        int count = 0;
+        try (GraphStreamReader reader = new GraphStreamReader(new BufferedReader(new FileReader(jsonPath.toFile())));
+             Writer writer = new Writer(binaryPath)) {
+            while (reader.hasNext()) {
+                GraphRecord record = reader.next();
+                writer.write(record.id, record.type, record.graph);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int padded(int bytes) {
+        return (bytes + 3) & ~3;
+    }
+
+    public static class Writer implements java.io.Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+        private int graphCount;
+
+        public Writer(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            putInt(MAGIC);
+            putInt(VERSION);
+            putInt(0); // graphCount close() кезінде жазылады
+            putInt(0);
+        }
+
+        public void write(int id, String type, CompactGraph graph) throws IOException {
+            byte[] typeBytes = type == null ? null : type.getBytes(StandardCharsets.UTF_8);
+            String[] names = graph.getVertexNames();
+            int[] nameOffsets = new int[names.length + 1];
+            byte[][] encodedNames = new byte[names.length][];
+            for (int v = 0; v < names.length; v++) {
+                encodedNames[v] = names[v].getBytes(StandardCharsets.UTF_8);
+                nameOffsets[v + 1] = nameOffsets[v] + encodedNames[v].length;
+            }
+
+            putInt(id);
+            putInt(graph.getVertexCount());
+            putInt(graph.getEdgeCount());
+            putInt(typeBytes == null ? -1 : typeBytes.length);
+            putInt(nameOffsets[names.length]);
+            if (typeBytes != null) {
+                putBytes(typeBytes);
+            }
+            putInts(nameOffsets);
+            for (byte[] name : encodedNames) {
+                putBytes(name, false);
+            }
+            pad(nameOffsets[names.length]);
+
+            putInts(graph.getEdgeFrom());
+            putInts(graph.getEdgeTo());
+            putInts(graph.getEdgeWeight());
+            putInts(graph.getOffsets());
+            putInts(graph.getTargets());
+            putInts(graph.getWeights());
+            putInts(graph.getEdgeIds());
+            graphCount++;
+        }
+
+        private void putInt(int value) throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                flush();
+            }
+            buffer.putInt(value);
+        }
+
+        private void putInts(int[] values) throws IOException {
+            int index = 0;
+            while (index < values.length) {
+                if (buffer.remaining() < Integer.BYTES) {
+                    flush();
+                }
+                IntBuffer ints = buffer.asIntBuffer();
+                int count = Math.min(ints.remaining(), values.length - index);
+                ints.put(values, index, count);
+                buffer.position(buffer.position() + count * Integer.BYTES);
+                index += count;
+            }
+        }
+
+        private void putBytes(byte[] bytes) throws IOException {
+            putBytes(bytes, true);
+        }
+
+        private void putBytes(byte[] bytes, boolean align) throws IOException {
+            int index = 0;
+            while (index < bytes.length) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int count = Math.min(buffer.remaining(), bytes.length - index);
+                buffer.put(bytes, index, count);
+                index += count;
+            }
+            if (align) {
+                pad(bytes.length);
+            }
+        }
+
+        private void pad(int writtenBytes) throws IOException {
+            for (int i = writtenBytes; i < padded(writtenBytes); i++) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                buffer.put((byte) 0);
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+                ByteBuffer count = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                count.putInt(graphCount).flip();
+                channel.write(count, 8);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    public static class Reader implements GraphSource {
+        // targets жиымы 2m int, ал int[] ұзындығы int-ке сыюы керек
+        private static final int MAX_EDGES = (Integer.MAX_VALUE - 8) / 2;
+
+        private final FileChannel channel;
+        private final long fileSize;
+        private final ByteBuffer file; // бүкіл файл; 2 ГБ-тан үлкен болса null, сонда жиым сайын бейнеленеді
+        private final int graphCount;
+        private int graphsRead;
+        private long position = HEADER_BYTES;
+
+        public Reader(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                fileSize = channel.size();
+                file = fileSize <= Integer.MAX_VALUE
+                        ? channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize).order(ByteOrder.LITTLE_ENDIAN)
+                        : null;
+                ByteBuffer header = map(0, HEADER_BYTES);
+                if (header.getInt() != MAGIC) {
+                    throw new IOException("Not a binary graph file: " + path);
+                }
+                int version = header.getInt();
+                if (version != VERSION) {
+                    throw new IOException("Unsupported binary graph version " + version + ": " + path);
+                }
+                graphCount = header.getInt();
+                if (graphCount < 0) {
+                    throw new IOException("Negative graph count " + graphCount + ": " + path);
+                }
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        public int getGraphCount() {
+            return graphCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return graphsRead < graphCount;
+        }
+
+        // Өлшемдері бұзылған тақырып IOException береді (келесі графтың орны белгісіз);
+        // тақырыбы дұрыс, бірақ жиымдары сәйкес келмейтін граф оқылып өтіліп, IllegalStateException береді
+        @Override
+        public GraphRecord next() throws IOException {
+            long start = position;
+            ByteBuffer header = map(position, 5 * Integer.BYTES);
+            position += 5 * Integer.BYTES;
+            int id = header.getInt();
+            int vertexCount = header.getInt();
+            int edgeCount = header.getInt();
+            int typeLength = header.getInt();
+            int nameBytes = header.getInt();
+
+            long sectionBytes = 5L * Integer.BYTES + padded(Math.max(typeLength, 0)) + padded(nameBytes)
+                    + 2L * ((long) vertexCount + 1) * Integer.BYTES + 9L * edgeCount * Integer.BYTES;
+            if (vertexCount < 0 || vertexCount >= MAX_EDGES || edgeCount < 0 || edgeCount > MAX_EDGES
+                    || typeLength < -1 || typeLength > Integer.MAX_VALUE - 3
+                    || nameBytes < 0 || nameBytes > Integer.MAX_VALUE - 3
+                    || start + sectionBytes > fileSize) {
+                throw new IOException("Corrupt graph header at offset " + start + ": " + vertexCount
+                        + " vertices, " + edgeCount + " edges, " + nameBytes + " name bytes");
+            }
+
+            String type = null;
+            if (typeLength >= 0) {
+                type = StandardCharsets.UTF_8.decode(map(position, typeLength)).toString();
+                position += padded(typeLength);
+            }
+
+            int[] nameOffsets = readInts(vertexCount + 1);
+            ByteBuffer nameTable = map(position, nameBytes);
+            position += padded(nameBytes);
+            int[] edgeFrom = readInts(edgeCount);
+            int[] edgeTo = readInts(edgeCount);
+            int[] edgeWeight = readInts(edgeCount);
+            int[] offsets = readInts(vertexCount + 1);
+            int[] targets = readInts(2 * edgeCount);
+            int[] weights = readInts(2 * edgeCount);
+            int[] edgeIds = readInts(2 * edgeCount);
+            graphsRead++;
+
+            String error = validate(vertexCount, edgeCount, nameBytes, nameOffsets, edgeFrom, edgeTo,
+                    offsets, targets, edgeIds);
+            if (error != null) {
+                throw new IllegalStateException("Graph " + id + " at offset " + start + ": " + error);
+            }
+
+            String[] names = new String[vertexCount];
+            byte[] scratch = new byte[64];
+            for (int v = 0; v < vertexCount; v++) {
+                int length = nameOffsets[v + 1] - nameOffsets[v];
+                if (scratch.length < length) {
+                    scratch = new byte[length];
+                }
+                nameTable.get(scratch, 0, length);
+                names[v] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+
+            return new GraphRecord(id, type,
+                    CompactGraph.fromCsr(names, edgeFrom, edgeTo, edgeWeight, offsets, targets, weights, edgeIds));
+        }
+
+        // fromCsr жиымдарды тексермейді: мұнда өтпеген граф кейін Prim/Kruskal ішінде AIOOBE берер еді
+        private static String validate(int vertexCount, int edgeCount, int nameBytes, int[] nameOffsets,
+                                       int[] edgeFrom, int[] edgeTo, int[] offsets, int[] targets, int[] edgeIds) {
+            if (!isMonotone(nameOffsets, nameBytes)) {
+                return "name offsets are not ordered within " + nameBytes + " bytes";
+            }
+            if (!isMonotone(offsets, 2 * edgeCount)) {
+                return "adjacency offsets are not ordered or do not end at " + 2 * edgeCount;
+            }
+            for (int e = 0; e < edgeCount; e++) {
+                if (edgeFrom[e] < 0 || edgeFrom[e] >= vertexCount || edgeTo[e] < 0 || edgeTo[e] >= vertexCount) {
+                    return "edge " + e + " (" + edgeFrom[e] + ", " + edgeTo[e] + ") is outside vertex range "
+                            + vertexCount;
+                }
+            }
+            for (int slot = 0; slot < targets.length; slot++) {
+                if (targets[slot] < 0 || targets[slot] >= vertexCount || edgeIds[slot] < 0
+                        || edgeIds[slot] >= edgeCount) {
+                    return "adjacency slot " + slot + " is out of range";
+                }
+            }
+            return null;
+        }
+
+        // values[0] = 0, кемімейді, соңғысы last
+        private static boolean isMonotone(int[] values, int last) {
+            if (values[0] != 0 || values[values.length - 1] != last) {
+                return false;
+            }
+            for (int i = 1; i < values.length; i++) {
+                if (values[i] < values[i - 1]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int[] readInts(int count) throws IOException {
+            int[] values = new int[count];
+            map(position, (long) count * Integer.BYTES).asIntBuffer().get(values);
+            position += (long) count * Integer.BYTES;
+            return values;
+        }
+
+        private ByteBuffer map(long offset, long size) throws IOException {
+            if (offset + size > fileSize) {
+                throw new IOException("Truncated binary graph file at offset " + offset);
+            }
+            if (file != null) {
+                return file.slice((int) offset, (int) size).order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, offset, size).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package graph.io;
+
+import graph.GraphGenerator;
+
+import java.io.IOException;
+
+// Бүкіл графты жадқа жүктемей, қырларды ағынмен беретін кіріс (сыртқы жадтағы алгоритмдерге арналған).
+// Жадта тек төбе аттарының кестесі (O(V)) сақталады.
+public interface EdgeInput {
+    // Барлық қырларды енгізу ретімен sink-ке береді; төбе id-лері 0-ден бастап тығыз
+    void readEdges(GraphGenerator.EdgeSink sink) throws IOException;
+
+    // readEdges аяқталғаннан кейін жарамды
+    int getVertexCount();
+
+    String getVertexName(int id);
+
+    long getBytesRead();
+}
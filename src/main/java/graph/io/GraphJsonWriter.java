@@ -0,0 +1,81 @@
+package graph.io;
+
+import com.google.gson.stream.JsonWriter;
+import graph.CompactGraph;
+import graph.GraphGenerator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+// ass_3_input.json пішінінде графтарды ағынмен жазу: {"graphs": [{"id", "type", "nodes", "edges"}, ...]}
+public class GraphJsonWriter implements Closeable {
+    private final JsonWriter json;
+
+    public GraphJsonWriter(Writer output) throws IOException {
+        json = new JsonWriter(output);
+        json.beginObject();
+        json.name("graphs");
+        json.beginArray();
+    }
+
+    // Генератор қырлары жадта жиналмай, тікелей файлға жазылады
+    public void writeGraph(int id, String type, GraphGenerator generator) throws IOException {
+        beginGraph(id, type);
+        json.name("nodes");
+        json.beginArray();
+        for (int v = 0; v < generator.getVertexCount(); v++) {
+            json.value(GraphGenerator.vertexName(v));
+        }
+        json.endArray();
+
+        json.name("edges");
+        json.beginArray();
+        generator.generate((from, to, weight) ->
+                writeEdge(GraphGenerator.vertexName(from), GraphGenerator.vertexName(to), weight));
+        json.endArray();
+        json.endObject();
+    }
+
+    public void writeGraph(int id, String type, CompactGraph graph) throws IOException {
+        beginGraph(id, type);
+        json.name("nodes");
+        json.beginArray();
+        for (String name : graph.getVertexNames()) {
+            json.value(name);
+        }
+        json.endArray();
+
+        int[] edgeFrom = graph.getEdgeFrom();
+        int[] edgeTo = graph.getEdgeTo();
+        int[] edgeWeight = graph.getEdgeWeight();
+        json.name("edges");
+        json.beginArray();
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            writeEdge(graph.getVertexName(edgeFrom[e]), graph.getVertexName(edgeTo[e]), edgeWeight[e]);
+        }
+        json.endArray();
+        json.endObject();
+    }
+
+    private void beginGraph(int id, String type) throws IOException {
+        json.beginObject();
+        json.name("id").value(id);
+        json.name("type").value(type);
+    }
+
+    private void writeEdge(String from, String to, int weight) throws IOException {
+        json.beginObject();
+        json.name("from").value(from);
+        json.name("to").value(to);
+        json.name("weight").value(weight);
+        json.endObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+        json.endArray();
+        json.endObject();
+        json.close();
+    }
+}
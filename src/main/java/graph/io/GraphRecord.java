@@ -0,0 +1,16 @@
+package graph.io;
+
+import graph.CompactGraph;
+
+// Енгізу файлындағы бір граф: идентификаторы, түрі және ықшам құрылымы
+public class GraphRecord {
+    public final int id;
+    public final String type;
+    public final CompactGraph graph;
+
+    public GraphRecord(int id, String type, CompactGraph graph) {
+        this.id = id;
+        this.type = type;
+        this.graph = graph;
+    }
+}
@@ -0,0 +1,11 @@
+package graph.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// Графтарды бір-бірден беретін кіріс көзі (JSON ағыны немесе бинарлық файл)
+public interface GraphSource extends Closeable {
+    boolean hasNext() throws IOException;
+
+    GraphRecord next() throws IOException;
+}
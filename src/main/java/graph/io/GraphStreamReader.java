@@ -0,0 +1,148 @@
+package graph.io;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import graph.CompactGraph;
+
+import java.io.IOException;
+import java.io.Reader;
+
+// ass_3_input.json пішініндегі "graphs" жиымын бір-бір графтан оқиды; бүкіл файл жадқа жүктелмейді
+public class GraphStreamReader implements GraphSource {
+    private final JsonReader reader;
+    private boolean inGraphs;
+    private String error; // ағымдағы графтың бірінші қатесі
+
+    public GraphStreamReader(Reader input) throws IOException {
+        this.reader = new JsonReader(input);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("graphs")) {
+                reader.beginArray();
+                inGraphs = true;
+                return;
+            }
+            reader.skipValue();
+        }
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        return inGraphs && reader.hasNext();
+    }
+
+    // Келесі графты оқиды. Граф қате болса ("id" жоқ, ұшы жоқ қыр, бүтін емес сан), объект толық оқылып,
+    // содан кейін ғана IllegalStateException лақтырылады, сондықтан шақырушы қалған графтарды өңдеуді жалғастыра алады.
+    // JSON синтаксисінің өзі бұзылса (MalformedJsonException), ағынды әрі қарай оқу мүмкін емес.
+    @Override
+    public GraphRecord next() throws IOException {
+        CompactGraph.Builder builder = new CompactGraph.Builder();
+        Integer id = null;
+        String type = null;
+        error = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    id = readInt("id");
+                    break;
+                case "type":
+                    type = reader.nextString();
+                    break;
+                case "nodes":
+                    readNodes(builder);
+                    break;
+                case "edges":
+                    readEdges(builder);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (error != null) {
+            throw new IllegalStateException(error);
+        }
+        if (id == null) {
+            throw new IllegalStateException("Graph without \"id\" at " + reader.getPath());
+        }
+        return new GraphRecord(id, type, builder.build());
+    }
+
+    private void readNodes(CompactGraph.Builder builder) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            builder.addVertex(reader.nextString());
+        }
+        reader.endArray();
+    }
+
+    // Қате қыр тек бірінші қате ретінде жазылады: массив соңына дейін оқылады
+    private void readEdges(CompactGraph.Builder builder) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            String from = null;
+            String to = null;
+            Integer weight = 0;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "from":
+                        from = reader.nextString();
+                        break;
+                    case "to":
+                        to = reader.nextString();
+                        break;
+                    case "weight":
+                        weight = readInt("weight");
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            }
+            String path = reader.getPath();
+            reader.endObject();
+
+            if (from == null || to == null) {
+                recordError("Edge without endpoints at " + path);
+            } else if (weight != null && error == null) {
+                builder.addEdge(from, to, weight);
+            }
+        }
+        reader.endArray();
+    }
+
+    // Бүтін сан мәні; сан емес немесе int-ке сыймаса, қате жазылып, null қайтарылады
+    private Integer readInt(String name) throws IOException {
+        String path = reader.getPath();
+        JsonToken token = reader.peek();
+        if (token == JsonToken.NUMBER || token == JsonToken.STRING) {
+            String raw = reader.nextString();
+            try {
+                return Integer.parseInt(raw);
+            } catch (NumberFormatException e) {
+                recordError("\"" + name + "\" is not an integer: " + raw + " at " + path);
+                return null;
+            }
+        }
+        reader.skipValue();
+        recordError("\"" + name + "\" is not an integer at " + path);
+        return null;
+    }
+
+    private void recordError(String message) {
+        if (error == null) {
+            error = message;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,139 @@
+package graph.io;
+
+import com.google.gson.stream.JsonReader;
+import graph.GraphGenerator;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// ass_3_input.json пішініндегі бір графтың қырларын ағынмен оқиды: CompactGraph құрылмайды,
+// тек төбе аттары id-ге айналдырылады. Графта "id" өрісі "nodes" пен "edges"-тен бұрын тұруы керек.
+public class JsonEdgeInput implements EdgeInput {
+    private final Path path;
+    private final int graphId;
+    private final Map<String, Integer> vertexIds = new HashMap<>();
+    private final List<String> vertexNames = new ArrayList<>();
+    private long bytesRead;
+
+    public JsonEdgeInput(Path path, int graphId) {
+        this.path = path;
+        this.graphId = graphId;
+    }
+
+    @Override
+    public void readEdges(GraphGenerator.EdgeSink sink) throws IOException {
+        vertexIds.clear();
+        vertexNames.clear();
+        try (CountingInputStream counter = new CountingInputStream(new BufferedInputStream(Files.newInputStream(path)));
+             JsonReader reader = new JsonReader(new InputStreamReader(counter, StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (!reader.nextName().equals("graphs")) {
+                    reader.skipValue();
+                    continue;
+                }
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    if (readGraph(reader, sink)) {
+                        bytesRead = counter.getCount();
+                        return;
+                    }
+                }
+                reader.endArray();
+            }
+            bytesRead = counter.getCount();
+        }
+        throw new IllegalArgumentException("Graph " + graphId + " not found in " + path);
+    }
+
+    // Бір граф объектісін оқиды; ізделген граф болса true
+    private boolean readGraph(JsonReader reader, GraphGenerator.EdgeSink sink) throws IOException {
+        Integer id = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (name.equals("id")) {
+                id = reader.nextInt();
+            } else if ((name.equals("nodes") || name.equals("edges")) && id == null) {
+                throw new IllegalStateException("Graph \"id\" must precede \"" + name + "\" at " + reader.getPath());
+            } else if (name.equals("nodes") && id == graphId) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    vertexId(reader.nextString());
+                }
+                reader.endArray();
+            } else if (name.equals("edges") && id == graphId) {
+                readEdgeArray(reader, sink);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return id != null && id == graphId;
+    }
+
+    private void readEdgeArray(JsonReader reader, GraphGenerator.EdgeSink sink) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            String from = null;
+            String to = null;
+            int weight = 0;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "from":
+                        from = reader.nextString();
+                        break;
+                    case "to":
+                        to = reader.nextString();
+                        break;
+                    case "weight":
+                        weight = reader.nextInt();
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            }
+            reader.endObject();
+
+            if (from == null || to == null) {
+                throw new IllegalStateException("Edge without endpoints at " + reader.getPath());
+            }
+            sink.accept(vertexId(from), vertexId(to), weight);
+        }
+        reader.endArray();
+    }
+
+    private int vertexId(String name) {
+        Integer id = vertexIds.get(name);
+        if (id == null) {
+            id = vertexNames.size();
+            vertexIds.put(name, id);
+            vertexNames.add(name);
+        }
+        return id;
+    }
+
+    @Override
+    public int getVertexCount() {
+        return vertexNames.size();
+    }
+
+    @Override
+    public String getVertexName(int id) {
+        return vertexNames.get(id);
+    }
+
+    @Override
+    public long getBytesRead() {
+        return bytesRead;
+    }
+}
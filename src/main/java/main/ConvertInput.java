@@ -0,0 +1,40 @@
+package main;
+
+import graph.io.BinaryEdgeFile;
+import graph.io.BinaryGraphFile;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+// JSON кіріс файлын бинарлық пішінге айналдыру: ConvertInput <input.json> <output.bin>
+// немесе бір графты қырлар файлына (сыртқы жадтағы Kruskal үшін): ConvertInput <input.json> <output.edges> <graphId>
+public class ConvertInput {
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Қолданылуы: ConvertInput <input.json> <output.bin>");
+            System.err.println("            ConvertInput <input.json> <output.edges> <graphId>");
+            return;
+        }
+
+        try {
+            long startTime = System.nanoTime();
+            String summary;
+            if (args[1].endsWith(".edges")) {
+                if (args.length < 3) {
+                    System.err.println("Қырлар файлы үшін graphId керек");
+                    return;
+                }
+                long edges = BinaryEdgeFile.convert(Paths.get(args[0]), Integer.parseInt(args[2]), Paths.get(args[1]));
+                summary = edges + " қыр жазылды: " + args[1];
+            } else {
+                int count = BinaryGraphFile.convert(Paths.get(args[0]), Paths.get(args[1]));
+                summary = count + " граф айналдырылды: " + args[1];
+            }
+            double elapsedMs = (System.nanoTime() - startTime) / 1_000_000.0;
+            System.out.println(summary + String.format(" (%.1f ms)", elapsedMs));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Айналдыру қатесі: " + e.getMessage());
+        }
+    }
+}
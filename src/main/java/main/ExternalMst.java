@@ -0,0 +1,50 @@
+package main;
+
+import algorithms.ExternalKruskal;
+import graph.io.BinaryEdgeFile;
+import graph.io.EdgeInput;
+import graph.io.JsonEdgeInput;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// Жадқа сыймайтын граф үшін сыртқы жадтағы Kruskal:
+// ExternalMst <input.json|input.edges> [graphId] [runEdges]
+// Уақытша бөліктер java.io.tmpdir каталогына жазылып, соңында жойылады.
+public class ExternalMst {
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Қолданылуы: ExternalMst <input.json|input.edges> [graphId] [runEdges]");
+            return;
+        }
+
+        Path inputPath = Paths.get(args[0]);
+        int graphId = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        int runEdges = args.length > 2 ? Integer.parseInt(args[2]) : ExternalKruskal.DEFAULT_RUN_EDGES;
+        Path tempDirectory = Paths.get(System.getProperty("java.io.tmpdir"));
+
+        try {
+            ExternalKruskal.Result result;
+            if (args[0].endsWith(".edges")) {
+                try (BinaryEdgeFile.Reader reader = new BinaryEdgeFile.Reader(inputPath)) {
+                    result = ExternalKruskal.findMST(reader, tempDirectory, runEdges);
+                }
+            } else {
+                EdgeInput input = new JsonEdgeInput(inputPath, graphId);
+                result = ExternalKruskal.findMST(input, tempDirectory, runEdges);
+            }
+
+            System.out.println("Төбелер: " + result.vertexCount + ", қырлар: " + result.edgeCount);
+            System.out.println("MST құны: " + result.totalCost + " (" + result.mstEdges.size() + " қыр)");
+            System.out.println("Қаралған қырлар: " + result.edgesExamined + ", бөліктер: " + result.runCount);
+            System.out.println("Оқылған байт: " + result.inputBytesRead + " (кіріс), "
+                    + result.spillBytesRead + " (бөліктер)");
+            System.out.println("Жазылған байт: " + result.spillBytesWritten);
+            System.out.println(String.format("Уақыт: %.1f ms", result.executionTimeMs));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Есептеу қатесі: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package main;
+
+import graph.GraphGenerator;
+import graph.io.GraphJsonWriter;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+
+// Жүктемелік тесттерге арналған кіріс файлын жасау:
+// GenerateInput <output.json> <shape> <vertices> <degree> <seed> [graphCount]
+public class GenerateInput {
+
+    public static void main(String[] args) {
+        if (args.length < 5) {
+            System.err.println("Қолданылуы: GenerateInput <output.json> <RANDOM|GEOMETRIC|GRID|POWER_LAW|COMPLETE>"
+                    + " <vertices> <degree> <seed> [graphCount]");
+            return;
+        }
+
+        String outputPath = args[0];
+        GraphGenerator.Shape shape = GraphGenerator.Shape.valueOf(args[1]);
+        int vertices = Integer.parseInt(args[2]);
+        int degree = Integer.parseInt(args[3]);
+        long seed = Long.parseLong(args[4]);
+        int graphCount = args.length > 5 ? Integer.parseInt(args[5]) : 1;
+
+        try (GraphJsonWriter writer = new GraphJsonWriter(new BufferedWriter(new FileWriter(outputPath)))) {
+            for (int i = 0; i < graphCount; i++) {
+                GraphGenerator generator = new GraphGenerator(shape, vertices, degree, seed + i).connected(true);
+                writer.writeGraph(i + 1, shape.name().toLowerCase(), generator);
+            }
+            System.out.println(graphCount + " граф жазылды: " + outputPath);
+        } catch (IOException e) {
+            System.err.println("Файлға жазу қатесі: " + e.getMessage());
+        }
+    }
+}
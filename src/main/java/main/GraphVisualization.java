@@ -2,20 +2,64 @@ package main;
 
 import graph.Edge;
 import graph.Graph;
+import graph.io.GraphRecord;
+import graph.io.GraphSource;
 import algorithms.Kruskal;
 import algorithms.Prim;
 
+import java.io.BufferedWriter;
 import java.io.FileWriter;
+import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Paths;
+import java.util.*;
 
 public class GraphVisualization {
+    // Аргументсіз: үш мысал граф. GraphVisualization <input.json|.bin> <graphId> [maxEdges]:
+    // кіріс файлындағы бір графты graph_<id>.html ретінде SvgRenderer арқылы сызу
     public static void main(String[] args) {
+        if (args.length >= 2) {
+            int graphId;
+            int maxEdges;
+            try {
+                graphId = Integer.parseInt(args[1]);
+                maxEdges = args.length > 2 ? Integer.parseInt(args[2]) : SvgRenderer.DEFAULT_MAX_EDGES;
+            } catch (NumberFormatException e) {
+                maxEdges = -1;
+                graphId = 0;
+            }
+            if (maxEdges < 0) {
+                System.err.println("Қолданылуы: GraphVisualization <input.json|.bin> <graphId> [maxEdges],"
+                        + " graphId - бүтін сан, maxEdges >= 0");
+                return;
+            }
+            renderFromFile(args[0], graphId, maxEdges);
+            return;
+        }
         generateGraphImages();
         analyzeGraphPerformance();
     }
 
+    private static void renderFromFile(String inputPath, int graphId, int maxEdges) {
+        try (GraphSource source = Main.openGraphSource(inputPath)) {
+            while (source.hasNext()) {
+                GraphRecord record = source.next();
+                if (record.id != graphId) {
+                    continue;
+                }
+                Kruskal.Result mst = Kruskal.findMST(record.graph);
+                String filename = "graph_" + graphId + ".html";
+                new SvgRenderer(1200, 800).maxEdges(maxEdges)
+                        .render(record.graph, mst.mstEdgeIds, "Граф " + graphId, Paths.get(filename));
+                System.out.println("✓ " + filename + " жасалды");
+                return;
+            }
+            System.err.println("Граф табылмады: " + graphId);
+        } catch (IOException e) {
+            System.err.println("SVG жасау қатесі: " + e.getMessage());
+        }
+    }
+
     private static void generateGraphImages() {
         System.out.println("Графтардың суреттерін жасау...");
 
@@ -41,7 +85,7 @@ public class GraphVisualization {
     }
 
     private static void generateSVG(Graph graph, List<Edge> mstEdges, String filename, String title) {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(filename + ".html"))) {
+        try (PrintWriter writer = new PrintWriter(new BufferedWriter(new FileWriter(filename + ".html")))) {
             writer.println("<!DOCTYPE html>");
             writer.println("<html>");
             writer.println("<head>");
@@ -67,6 +111,11 @@ public class GraphVisualization {
 
             // Төбелерді орналастыру - қырлардан төбелерді шығару
             List<String> nodes = extractNodesFromGraph(graph);
+            Map<String, Integer> nodeIndex = new HashMap<>();
+            for (int i = 0; i < nodes.size(); i++) {
+                nodeIndex.put(nodes.get(i), i);
+            }
+            Set<String> mstPairs = mstPairKeys(mstEdges);
             int centerX = 300, centerY = 200;
             double radius = Math.min(150, 2000 / nodes.size()); // Өлшемге байланысты радиус
 
@@ -82,8 +131,8 @@ public class GraphVisualization {
             // Қырларды сызу
             List<Edge> edges = getEdgesFromGraph(graph);
             for (Edge edge : edges) {
-                int fromIndex = nodes.indexOf(edge.from);
-                int toIndex = nodes.indexOf(edge.to);
+                int fromIndex = nodeIndex.getOrDefault(edge.from, -1);
+                int toIndex = nodeIndex.getOrDefault(edge.to, -1);
 
                 if (fromIndex != -1 && toIndex != -1) {
                     double fromAngle = 2 * Math.PI * fromIndex / nodes.size();
@@ -94,7 +143,7 @@ public class GraphVisualization {
                     int toX = (int)(centerX + radius * Math.cos(toAngle));
                     int toY = (int)(centerY + radius * Math.sin(toAngle));
 
-                    boolean isMST = isEdgeInMST(edge, mstEdges);
+                    boolean isMST = mstPairs.contains(pairKey(edge.from, edge.to));
                     String edgeClass = isMST ? "mst-edge" : "edge";
 
                     writer.println("                <line class='" + edgeClass + "' x1='" + fromX + "' y1='" + fromY +
@@ -128,18 +177,12 @@ public class GraphVisualization {
 
     // Graph класынан төбелерді алу - қырлардан шығару
     private static List<String> extractNodesFromGraph(Graph graph) {
-        List<String> nodes = new ArrayList<>();
-        List<Edge> edges = getEdgesFromGraph(graph);
-
-        for (Edge edge : edges) {
-            if (!nodes.contains(edge.from)) {
-                nodes.add(edge.from);
-            }
-            if (!nodes.contains(edge.to)) {
-                nodes.add(edge.to);
-            }
+        Set<String> nodes = new LinkedHashSet<>();
+        for (Edge edge : getEdgesFromGraph(graph)) {
+            nodes.add(edge.from);
+            nodes.add(edge.to);
         }
-        return nodes;
+        return new ArrayList<>(nodes);
     }
 
     // Graph класынан қырларды алу әдісі
@@ -153,15 +196,17 @@ public class GraphVisualization {
         }
     }
 
-    // Қырдың MST-де бар-жоғын тексеру
-    private static boolean isEdgeInMST(Edge edge, List<Edge> mstEdges) {
+    // MST қырларының бағытсыз жұп кілттері: әр қырды тексеру O(1)
+    private static Set<String> mstPairKeys(List<Edge> mstEdges) {
+        Set<String> keys = new HashSet<>();
         for (Edge mstEdge : mstEdges) {
-            if ((mstEdge.from.equals(edge.from) && mstEdge.to.equals(edge.to)) ||
-                    (mstEdge.from.equals(edge.to) && mstEdge.to.equals(edge.from))) {
-                return true;
-            }
+            keys.add(pairKey(mstEdge.from, mstEdge.to));
         }
-        return false;
+        return keys;
+    }
+
+    private static String pairKey(String a, String b) {
+        return a.compareTo(b) <= 0 ? a + '\u0000' + b : b + '\u0000' + a;
     }
 
     // MST жалпы құнын есептеу
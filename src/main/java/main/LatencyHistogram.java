@@ -0,0 +1,86 @@
+package main;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Бекітілген шекаралы кідіріс гистограммасы (ms): бірнеше ағыннан құлыпсыз жазылады.
+// Prometheus мәтін пішінінде жинақталған (cumulative) бакеттермен шығарылады; HELP/TYPE жолдарын шақырушы
+// отбасы (family) бойынша бір рет жазады, максимум бөлек gauge ретінде writeMaxTo арқылы шығады.
+public final class LatencyHistogram {
+    static final double[] BOUNDS_MS = {0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 25, 50, 100, 250, 500, 1000, 2500,
+            5000, 10000};
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MS.length + 1]; // соңғысы - +Inf
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        double ms = nanos / 1_000_000.0;
+        int bucket = 0;
+        while (bucket < BOUNDS_MS.length && ms > BOUNDS_MS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        count.increment();
+        sumNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMaxMs() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    // q-квантиль қамтылатын бакеттің жоғарғы шекарасы (+Inf бакетінде - максимум)
+    public double quantileMs(double q) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(q * total);
+        long seen = 0;
+        for (int i = 0; i < BOUNDS_MS.length; i++) {
+            seen += buckets[i].sum();
+            if (seen >= rank) {
+                return BOUNDS_MS[i];
+            }
+        }
+        return getMaxMs();
+    }
+
+    public void writeTo(StringBuilder out, String name, String labels) {
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        long cumulative = 0;
+        for (int i = 0; i < BOUNDS_MS.length; i++) {
+            cumulative += buckets[i].sum();
+            out.append(name).append("_bucket{").append(prefix).append("le=\"")
+                    .append(format(BOUNDS_MS[i])).append("\"} ").append(cumulative).append('\n');
+        }
+        cumulative += buckets[BOUNDS_MS.length].sum();
+        String braces = labels.isEmpty() ? "" : "{" + labels + "}";
+        out.append(name).append("_bucket{").append(prefix).append("le=\"+Inf\"} ").append(cumulative).append('\n');
+        out.append(name).append("_count").append(braces).append(' ').append(count.sum()).append('\n');
+        out.append(name).append("_sum").append(braces).append(' ')
+                .append(format(sumNanos.sum() / 1_000_000.0)).append('\n');
+    }
+
+    public void writeMaxTo(StringBuilder out, String name, String labels) {
+        out.append(name).append(labels.isEmpty() ? "" : "{" + labels + "}").append(' ')
+                .append(format(getMaxMs())).append('\n');
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value).replaceAll("\\.?0+$", "");
+    }
+}
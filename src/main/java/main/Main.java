@@ -1,34 +1,115 @@
 package main;
 
 import algorithms.Kruskal;
+import algorithms.MstWorkspace;
 import algorithms.Prim;
-import com.google.gson.*;
-import graph.Edge;
-import graph.Graph;
+import graph.io.GraphRecord;
+import graph.io.BinaryGraphFile;
+import graph.io.GraphSource;
+import graph.io.GraphStreamReader;
 
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class Main {
+    private static final int CACHE_MEMORY_ENTRIES = 1024;
+    private static final String CACHE_DIRECTORY = "data/mst-cache";
+    private static final long CACHE_DISK_BYTES = 256L * 1024 * 1024;
+    private static final int DEFAULT_PORT = 8080;
+
+    private static final String USAGE = "Қолданылуы: Main [--input PATH] [--workers N] [--compact] [--cache]"
+            + " | Main --serve [--port N] [--threads N]";
 
     public static void main(String[] args) {
+        int port;
+        int threads;
+        int workers;
+        try {
+            port = parseIntOption(args, "--port", DEFAULT_PORT, 0, 65535);
+            threads = parseIntOption(args, "--threads", Runtime.getRuntime().availableProcessors(), 1, 1024);
+            // --workers N: графтарды N ағынмен параллель өңдеу (әдепкі 1 - тізбектей)
+            workers = parseIntOption(args, "--workers", 1, 1, 1024);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Қате параметр: " + e.getMessage());
+            System.err.println(USAGE);
+            return;
+        }
+        // --serve: файлдардың орнына localhost-тағы HTTP сервисі (--port N, --threads N)
+        if (Arrays.asList(args).contains("--serve")) {
+            serve(port, threads);
+            return;
+        }
+        // --compact: JSON нәтижесін шегіністерсіз жазу
+        boolean pretty = !Arrays.asList(args).contains("--compact");
+        // --input PATH: басқа кіріс файлы (.bin болса - бинарлық пішін)
+        String inputPath = parseOption(args, "--input", "data/ass_3_input.json");
         try {
             createDataDirectory();
-            processGraphs();
+            // --cache: бұрын есептелген графтардың нәтижелерін data/mst-cache/v<нұсқа> ішінен қайта қолдану
+            MstCache cache = Arrays.asList(args).contains("--cache")
+                    ? new MstCache(CACHE_MEMORY_ENTRIES, Paths.get(CACHE_DIRECTORY), CACHE_DISK_BYTES)
+                    : null;
+            processGraphs(inputPath, pretty, workers, cache);
+            if (cache != null) {
+                System.out.println("Кэш: " + cache.getHits() + " сәтті (дискіден " + cache.getDiskHits() + "), "
+                        + cache.getMisses() + " сәтсіз, " + cache.getEvictions() + " ығыстырылды");
+            }
         } catch (Exception e) {
             System.err.println("Басты қате: " + e.getMessage());
         }
     }
 
+    private static void serve(int port, int threads) {
+        try {
+            MstServer server = new MstServer(port, threads);
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+            System.out.println("MST сервисі іске қосылды: http://localhost:" + server.getPort()
+                    + "/mst (" + threads + " ағын, метрикалар: /metrics)");
+        } catch (IOException e) {
+            System.err.println("Сервисті іске қосу қатесі: " + e.getMessage());
+        }
+    }
+
+    // Сан емес немесе [min, max] ауқымынан тыс мән IllegalArgumentException береді
+    static int parseIntOption(String[] args, String name, int defaultValue, int min, int max) {
+        String value = parseOption(args, name, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be an integer: " + value);
+        }
+        if (parsed < min || parsed > max) {
+            throw new IllegalArgumentException(name + " must be between " + min + " and " + max + ": " + value);
+        }
+        return parsed;
+    }
+
+    private static String parseOption(String[] args, String name, String defaultValue) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return defaultValue;
+    }
+
     private static void createDataDirectory() throws IOException {
         Files.createDirectories(Paths.get("data"));
     }
 
-    private static void processGraphs() {
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        String inputPath = "data/ass_3_input.json";
+    private static void processGraphs(String inputPath, boolean pretty, int workers, MstCache cache) {
         String outputPath = "data/ass_3_output.json";
         String csvOutputPath = "data/algorithm_analysis.csv"; // data папкасына ауыстырдым
 
@@ -36,13 +117,13 @@ public class Main {
             return;
         }
 
-        try (FileReader reader = new FileReader(inputPath)) {
-            JsonObject inputJson = gson.fromJson(reader, JsonObject.class);
-            JsonArray results = processAllGraphs(inputJson.getAsJsonArray("graphs"));
-            saveResultsToFile(gson, outputPath, results);
-
-            // CSV файлға жазу
-            writeCSV(results, csvOutputPath);
+        try (GraphSource reader = openGraphSource(inputPath);
+             ResultStreamWriter writer = ResultStreamWriter.open(outputPath, csvOutputPath, pretty)) {
+            if (workers > 1) {
+                processAllGraphsParallel(reader, writer, workers, cache);
+            } else {
+                processAllGraphs(reader, writer, cache);
+            }
 
             System.out.println("ass_3_output.json сәтті құрылды: " + outputPath);
             System.out.println("algorithm_analysis.csv сәтті құрылды: " + csvOutputPath);
@@ -52,6 +133,13 @@ public class Main {
         }
     }
 
+    static GraphSource openGraphSource(String inputPath) throws IOException {
+        if (inputPath.endsWith(".bin")) {
+            return new BinaryGraphFile.Reader(Paths.get(inputPath));
+        }
+        return new GraphStreamReader(new BufferedReader(new FileReader(inputPath)));
+    }
+
     private static boolean checkInputFileExists(String inputPath) {
         File inputFile = new File(inputPath);
         if (!inputFile.exists()) {
@@ -61,168 +149,118 @@ public class Main {
         return true;
     }
 
-    private static JsonArray processAllGraphs(JsonArray graphsArray) {
-        JsonArray results = new JsonArray();
-
-        for (JsonElement graphElem : graphsArray) {
-            JsonObject graphObj = graphElem.getAsJsonObject();
-            JsonObject resultObj = processSingleGraph(graphObj);
-            if (resultObj != null) {
-                results.add(resultObj);
+    // Графтар файлдан бір-бірден оқылып, нәтижесі бірден жазылады
+    private static void processAllGraphs(GraphSource reader, ResultStreamWriter writer,
+                                         MstCache cache) throws IOException {
+        while (reader.hasNext()) {
+            GraphRecord record;
+            try {
+                record = reader.next();
+            } catch (IllegalStateException e) {
+                System.err.println("Графты өңдеу кезіндегі қате: " + e.getMessage());
+                continue;
             }
+            processSingleGraph(record, writer, cache);
         }
-
-        return results;
     }
 
-    private static JsonObject processSingleGraph(JsonObject graphObj) {
+    // Параллель режим: әр граф үшін Prim мен Kruskal пулға жеке тапсырма ретінде беріледі.
+    // Нәтижелер кірістегі графтар ретімен жазылады; бір уақытта ең көбі 2 * workers граф өңделеді,
+    // терезе толса, оқу ең ескі граф аяқталғанша күтеді.
+    private static void processAllGraphsParallel(GraphSource reader, ResultStreamWriter writer,
+                                                 int workers, MstCache cache) throws IOException {
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        Deque<PendingGraph> inFlight = new ArrayDeque<>();
+        int maxInFlight = 2 * workers;
         try {
-            int graphId = graphObj.get("id").getAsInt();
-            Graph graph = createGraphFromJson(graphObj);
-
-            Prim.Result primResult = Prim.findMST(graph);
-            Kruskal.Result kruskalResult = Kruskal.findMST(graph);
-
-            return createResultObject(graphId, graph, primResult, kruskalResult);
-        } catch (Exception e) {
-            System.err.println("Графты өңдеу кезіндегі қате: " + e.getMessage());
-            return null;
-        }
-    }
-
-    private static Graph createGraphFromJson(JsonObject graphObj) {
-        List<String> nodes = extractNodesFromJson(graphObj);
-        List<Edge> edges = extractEdgesFromJson(graphObj);
-        return new Graph(nodes, edges);
-    }
-
-    private static List<String> extractNodesFromJson(JsonObject graphObj) {
-        List<String> nodes = new ArrayList<>();
-        JsonArray nodesArray = graphObj.getAsJsonArray("nodes");
-
-        for (JsonElement node : nodesArray) {
-            nodes.add(node.getAsString());
+            while (reader.hasNext()) {
+                GraphRecord record;
+                try {
+                    record = reader.next();
+                } catch (IllegalStateException e) {
+                    System.err.println("Графты өңдеу кезіндегі қате: " + e.getMessage());
+                    continue;
+                }
+                String hash = cache == null ? null : MstCache.contentHash(record.graph);
+                MstCache.Entry cached = cache == null ? null : cache.get(hash);
+                if (cached != null) {
+                    inFlight.add(new PendingGraph(record, null, CompletableFuture.completedFuture(cached.prim),
+                            CompletableFuture.completedFuture(cached.kruskal)));
+                } else {
+                    inFlight.add(new PendingGraph(record, hash,
+                            pool.submit(() -> Prim.findMST(record.graph, Prim.Mode.LAZY,
+                                    MstWorkspace.forCurrentThread())),
+                            pool.submit(() -> Kruskal.findMST(record.graph, Kruskal.Mode.SEQUENTIAL,
+                                    MstWorkspace.forCurrentThread()))));
+                }
+                if (inFlight.size() >= maxInFlight) {
+                    writePendingGraph(inFlight.poll(), writer, cache);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                writePendingGraph(inFlight.poll(), writer, cache);
+            }
+        } finally {
+            pool.shutdownNow();
         }
-
-        return nodes;
     }
 
-    private static List<Edge> extractEdgesFromJson(JsonObject graphObj) {
-        List<Edge> edges = new ArrayList<>();
-        JsonArray edgesArray = graphObj.getAsJsonArray("edges");
-
-        for (JsonElement edgeElem : edgesArray) {
-            JsonObject edgeObj = edgeElem.getAsJsonObject();
-            String from = edgeObj.get("from").getAsString();
-            String to = edgeObj.get("to").getAsString();
-            int weight = edgeObj.get("weight").getAsInt();
-            edges.add(new Edge(from, to, weight));
+    private static void writePendingGraph(PendingGraph pending, ResultStreamWriter writer,
+                                          MstCache cache) throws IOException {
+        Prim.Result primResult;
+        Kruskal.Result kruskalResult;
+        try {
+            primResult = pending.prim.get();
+            kruskalResult = pending.kruskal.get();
+        } catch (ExecutionException e) {
+            System.err.println("Графты өңдеу кезіндегі қате: " + e.getCause().getMessage());
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Графтарды өңдеу үзілді");
         }
-
-        return edges;
-    }
-
-    private static JsonObject createResultObject(int graphId, Graph graph,
-                                                 Prim.Result primResult,
-                                                 Kruskal.Result kruskalResult) {
-        JsonObject resultObj = new JsonObject();
-        resultObj.addProperty("graph_id", graphId);
-        resultObj.add("input_stats", createInputStats(graph));
-        resultObj.add("prim", createPrimResult(primResult));
-        resultObj.add("kruskal", createKruskalResult(kruskalResult));
-        return resultObj;
-    }
-
-    private static JsonObject createInputStats(Graph graph) {
-        JsonObject inputStats = new JsonObject();
-        inputStats.addProperty("vertices", graph.getVertexCount());
-        inputStats.addProperty("edges", graph.getEdgeCount());
-        return inputStats;
-    }
-
-    private static JsonObject createPrimResult(Prim.Result primResult) {
-        JsonObject primJson = new JsonObject();
-        primJson.add("mst_edges", createEdgesArray(primResult.mstEdges));
-        primJson.addProperty("total_cost", primResult.totalCost);
-        primJson.addProperty("operations_count", primResult.operationsCount);
-        primJson.addProperty("execution_time_ms", primResult.executionTimeMs);
-        return primJson;
-    }
-
-    private static JsonObject createKruskalResult(Kruskal.Result kruskalResult) {
-        JsonObject kruskalJson = new JsonObject();
-        kruskalJson.add("mst_edges", createEdgesArray(kruskalResult.mstEdges));
-        kruskalJson.addProperty("total_cost", kruskalResult.totalCost);
-        kruskalJson.addProperty("operations_count", kruskalResult.operationsCount);
-        kruskalJson.addProperty("execution_time_ms", kruskalResult.executionTimeMs);
-        return kruskalJson;
-    }
-
-    private static JsonArray createEdgesArray(List<Edge> edges) {
-        JsonArray edgesJson = new JsonArray();
-
-        for (Edge edge : edges) {
-            edgesJson.add(createEdgeObject(edge));
+        if (pending.hash != null) {
+            cache.put(pending.hash, new MstCache.Entry(primResult, kruskalResult));
         }
-
-        return edgesJson;
+        writer.write(pending.record.id, pending.record.graph, primResult, kruskalResult);
     }
 
-    private static JsonObject createEdgeObject(Edge edge) {
-        JsonObject edgeJson = new JsonObject();
-        edgeJson.addProperty("from", edge.from);
-        edgeJson.addProperty("to", edge.to);
-        edgeJson.addProperty("weight", edge.weight);
-        return edgeJson;
-    }
-
-    private static void saveResultsToFile(Gson gson, String outputPath, JsonArray results) throws IOException {
-        JsonObject outputJson = new JsonObject();
-        outputJson.add("results", results);
-
-        try (FileWriter writer = new FileWriter(outputPath)) {
-            gson.toJson(outputJson, writer);
+    private static final class PendingGraph {
+        final GraphRecord record;
+        final String hash; // кэшке жазу керек болса ғана null емес
+        final Future<Prim.Result> prim;
+        final Future<Kruskal.Result> kruskal;
+
+        PendingGraph(GraphRecord record, String hash, Future<Prim.Result> prim, Future<Kruskal.Result> kruskal) {
+            this.record = record;
+            this.hash = hash;
+            this.prim = prim;
+            this.kruskal = kruskal;
         }
     }
 
-
-    private static void writeCSV(JsonArray results, String csvOutputPath) {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(csvOutputPath))) {
-
-            writer.println("GraphID,Algorithm,Vertices,Edges,TotalCost,OperationsCount,ExecutionTimeMs");
-
-            for (JsonElement resultElem : results) {
-                JsonObject resultObj = resultElem.getAsJsonObject();
-                int graphId = resultObj.get("graph_id").getAsInt();
-                JsonObject inputStats = resultObj.get("input_stats").getAsJsonObject();
-                int vertices = inputStats.get("vertices").getAsInt();
-                int edges = inputStats.get("edges").getAsInt();
-
-                JsonObject primResult = resultObj.get("prim").getAsJsonObject();
-                JsonObject kruskalResult = resultObj.get("kruskal").getAsJsonObject();
-
-
-                writer.printf("%d,Prim,%d,%d,%d,%d,%.3f%n",
-                        graphId,
-                        vertices,
-                        edges,
-                        primResult.get("total_cost").getAsInt(),
-                        primResult.get("operations_count").getAsInt(),
-                        primResult.get("execution_time_ms").getAsDouble()
-                );
-
-
-                writer.printf("%d,Kruskal,%d,%d,%d,%d,%.3f%n",
-                        graphId,
-                        vertices,
-                        edges,
-                        kruskalResult.get("total_cost").getAsInt(),
-                        kruskalResult.get("operations_count").getAsInt(),
-                        kruskalResult.get("execution_time_ms").getAsDouble()
-                );
+    private static void processSingleGraph(GraphRecord record, ResultStreamWriter writer,
+                                           MstCache cache) throws IOException {
+        Prim.Result primResult;
+        Kruskal.Result kruskalResult;
+        try {
+            String hash = cache == null ? null : MstCache.contentHash(record.graph);
+            MstCache.Entry cached = cache == null ? null : cache.get(hash);
+            if (cached != null) {
+                primResult = cached.prim;
+                kruskalResult = cached.kruskal;
+            } else {
+                MstWorkspace workspace = MstWorkspace.forCurrentThread();
+                primResult = Prim.findMST(record.graph, Prim.Mode.LAZY, workspace);
+                kruskalResult = Kruskal.findMST(record.graph, Kruskal.Mode.SEQUENTIAL, workspace);
+                if (cache != null) {
+                    cache.put(hash, new MstCache.Entry(primResult, kruskalResult));
+                }
             }
-        } catch (IOException e) {
-            System.err.println("CSV файлға жазу қатесі: " + e.getMessage());
+        } catch (Exception e) {
+            System.err.println("Графты өңдеу кезіндегі қате: " + e.getMessage());
+            return;
         }
+        writer.write(record.id, record.graph, primResult, kruskalResult);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,282 @@
+package main;
+
+import algorithms.Kruskal;
+import algorithms.Prim;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import graph.CompactGraph;
+import graph.Edge;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// Граф мазмұнының хэші бойынша Prim/Kruskal нәтижелерінің кэші:
+// жадтағы LRU деңгейі және (қажет болса) дискідегі деңгей, екеуінің де өлшемі шектелген.
+// Кэштен алынған нәтиже бастапқы есептеудің execution_time_ms мәнін сақтайды.
+// Дискідегі жазбалар diskDirectory/v<FORMAT_VERSION> ішінде: ескі нұсқа жазған файлдар оқылмайды.
+public class MstCache {
+    // Нәтиже семантикасы (қырлар, бағыт, санауыштар) немесе файл пішімі өзгерген сайын арттырылады
+    public static final int FORMAT_VERSION = 2;
+
+    public static class Entry {
+        public final Prim.Result prim;
+        public final Kruskal.Result kruskal;
+
+        public Entry(Prim.Result prim, Kruskal.Result kruskal) {
+            this.prim = prim;
+            this.kruskal = kruskal;
+        }
+    }
+
+    private final LinkedHashMap<String, Entry> memory;
+    private final Path diskDirectory;
+    private final long maxDiskBytes;
+    private long diskBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public MstCache(int maxEntries) {
+        this(maxEntries, null, 0);
+    }
+
+    // diskDirectory == null болса, тек жадтағы деңгей қолданылады; әйтпесе оның нұсқа ішкі каталогы қолданылады
+    public MstCache(int maxEntries, Path diskDirectory, long maxDiskBytes) {
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.diskDirectory = diskDirectory == null ? null : diskDirectory.resolve("v" + FORMAT_VERSION);
+        this.maxDiskBytes = maxDiskBytes;
+        if (this.diskDirectory != null) {
+            try {
+                Files.createDirectories(this.diskDirectory);
+                diskBytes = listDiskEntries().stream().mapToLong(MstCache::sizeOf).sum();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // Канондық пішін: төбе аттары id ретімен, қырлар (from id, to id, weight) енгізу ретімен.
+    // Рет маңызды: Prim бастапқы төбесі мен тең салмақтарды ажырату осыған тәуелді.
+    public static String contentHash(CompactGraph graph) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] buffer = new byte[1 << 13];
+        int length = 0;
+        length = putInt(digest, buffer, length, graph.getVertexCount());
+        for (String name : graph.getVertexNames()) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            length = putInt(digest, buffer, length, bytes.length);
+            digest.update(buffer, 0, length);
+            length = 0;
+            digest.update(bytes);
+        }
+        int[] edgeFrom = graph.getEdgeFrom();
+        int[] edgeTo = graph.getEdgeTo();
+        int[] edgeWeight = graph.getEdgeWeight();
+        length = putInt(digest, buffer, length, graph.getEdgeCount());
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            length = putInt(digest, buffer, length, edgeFrom[e]);
+            length = putInt(digest, buffer, length, edgeTo[e]);
+            length = putInt(digest, buffer, length, edgeWeight[e]);
+        }
+        digest.update(buffer, 0, length);
+
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static int putInt(MessageDigest digest, byte[] buffer, int length, int value) {
+        if (length + Integer.BYTES > buffer.length) {
+            digest.update(buffer, 0, length);
+            length = 0;
+        }
+        buffer[length] = (byte) (value >>> 24);
+        buffer[length + 1] = (byte) (value >>> 16);
+        buffer[length + 2] = (byte) (value >>> 8);
+        buffer[length + 3] = (byte) value;
+        return length + Integer.BYTES;
+    }
+
+    public synchronized Entry get(String hash) {
+        Entry entry = memory.get(hash);
+        if (entry != null) {
+            hits.incrementAndGet();
+            return entry;
+        }
+        if (diskDirectory != null) {
+            entry = readFromDisk(hash);
+            if (entry != null) {
+                hits.incrementAndGet();
+                diskHits.incrementAndGet();
+                memory.put(hash, entry);
+                return entry;
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public synchronized void put(String hash, Entry entry) {
+        memory.put(hash, entry);
+        if (diskDirectory != null) {
+            writeToDisk(hash, entry);
+        }
+    }
+
+    private Entry readFromDisk(String hash) {
+        Path file = diskDirectory.resolve(hash + ".json");
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+            JsonObject prim = json.getAsJsonObject("prim");
+            JsonObject kruskal = json.getAsJsonObject("kruskal");
+            Entry entry = new Entry(
+                    new Prim.Result(readEdges(prim), intCost(prim),
+                            prim.get("operations_count").getAsInt(), prim.get("execution_time_ms").getAsDouble()),
+                    new Kruskal.Result(readEdges(kruskal), intCost(kruskal),
+                            kruskal.get("operations_count").getAsInt(), kruskal.get("execution_time_ms").getAsDouble()));
+            entry.prim.totalWeight = prim.get("total_cost").getAsLong();
+            entry.kruskal.totalWeight = kruskal.get("total_cost").getAsLong();
+            // Соңғы қолданылу уақыты дискідегі ығыстыру ретін анықтайды
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return entry;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Кэш файлын оқу қатесі: " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static int intCost(JsonObject result) {
+        return (int) Math.min(result.get("total_cost").getAsLong(), Integer.MAX_VALUE);
+    }
+
+    private static List<Edge> readEdges(JsonObject result) {
+        JsonArray edgesJson = result.getAsJsonArray("mst_edges");
+        List<Edge> edges = new ArrayList<>(edgesJson.size());
+        for (JsonElement edgeElem : edgesJson) {
+            JsonObject edgeObj = edgeElem.getAsJsonObject();
+            edges.add(new Edge(edgeObj.get("from").getAsString(), edgeObj.get("to").getAsString(),
+                    edgeObj.get("weight").getAsInt()));
+        }
+        return edges;
+    }
+
+    private void writeToDisk(String hash, Entry entry) {
+        Path file = diskDirectory.resolve(hash + ".json");
+        Path temp = diskDirectory.resolve(hash + ".tmp");
+        try {
+            long previousSize = Files.exists(file) ? Files.size(file) : 0;
+            try (JsonWriter json = new JsonWriter(Files.newBufferedWriter(temp, StandardCharsets.UTF_8))) {
+                json.beginObject();
+                json.name("prim");
+                ResultStreamWriter.writeAlgorithmResult(json, entry.prim.mstEdges, entry.prim.totalWeight,
+                        entry.prim.operationsCount, entry.prim.executionTimeMs);
+                json.name("kruskal");
+                ResultStreamWriter.writeAlgorithmResult(json, entry.kruskal.mstEdges, entry.kruskal.totalWeight,
+                        entry.kruskal.operationsCount, entry.kruskal.executionTimeMs);
+                json.endObject();
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            diskBytes += Files.size(file) - previousSize;
+            evictFromDisk(file);
+        } catch (IOException e) {
+            System.err.println("Кэш файлын жазу қатесі: " + file + ": " + e.getMessage());
+        }
+    }
+
+    // Ең ұзақ қолданылмаған файлдар шекке дейін жойылады (жаңа жазылған файл сақталады)
+    private void evictFromDisk(Path keep) throws IOException {
+        if (diskBytes <= maxDiskBytes) {
+            return;
+        }
+        List<Path> entries = listDiskEntries();
+        entries.sort(Comparator.comparing(MstCache::lastModified));
+        for (Path path : entries) {
+            if (diskBytes <= maxDiskBytes) {
+                break;
+            }
+            if (path.equals(keep)) {
+                continue;
+            }
+            long size = sizeOf(path);
+            Files.deleteIfExists(path);
+            diskBytes -= size;
+            evictions.incrementAndGet();
+        }
+    }
+
+    private List<Path> listDiskEntries() throws IOException {
+        try (Stream<Path> files = Files.list(diskDirectory)) {
+            return new ArrayList<>(Arrays.asList(files
+                    .filter(path -> path.getFileName().toString().endsWith(".json"))
+                    .toArray(Path[]::new)));
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getDiskHits() {
+        return diskHits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public synchronized int getMemoryEntryCount() {
+        return memory.size();
+    }
+}
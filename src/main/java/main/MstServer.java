@@ -0,0 +1,185 @@
+package main;
+
+import algorithms.Kruskal;
+import algorithms.MstWorkspace;
+import algorithms.Prim;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import graph.io.GraphRecord;
+import graph.io.GraphStreamReader;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Ұзақ жұмыс істейтін MST сервисі (тек localhost): JVM қызып тұрады, ал әр ағынның MstWorkspace-і қайта қолданылады.
+//   POST /mst      - ass_3_input.json пішініндегі дене, жауап ass_3_output.json пішінінде (?pretty - шегініспен)
+//   GET  /metrics  - сұраулар мен алгоритмдер кідірісінің гистограммалары (Prometheus мәтін пішімі)
+//   GET  /health   - "ok"
+// Сұраулар бекітілген өлшемді ағындар пулында өңделеді.
+public class MstServer {
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private final LatencyHistogram requestLatency = new LatencyHistogram();
+    private final LatencyHistogram primLatency = new LatencyHistogram();
+    private final LatencyHistogram kruskalLatency = new LatencyHistogram();
+    private final LongAdder graphs = new LongAdder();
+    private final LongAdder badRequests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    // port = 0 болса, бос порт таңдалады (getPort() арқылы білуге болады)
+    public MstServer(int port, int threads) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newFixedThreadPool(threads);
+        server.setExecutor(executor);
+        server.createContext("/mst", this::handleMst);
+        server.createContext("/metrics", this::handleMetrics);
+        server.createContext("/health", exchange -> respond(exchange, 200, "text/plain", "ok\n"));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // Кідіріс жауап дайын болған сәтке дейін өлшенеді, сондықтан клиент жауапты алғанда метрика жаңартылған
+    private void handleMst(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("POST")) {
+            exchange.getResponseHeaders().set("Allow", "POST");
+            respond(exchange, 405, "text/plain", "Use POST\n");
+            return;
+        }
+        long start = System.nanoTime();
+        int status = 200;
+        String contentType = "application/json; charset=utf-8";
+        byte[] body;
+        try {
+            body = computeResults(exchange);
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            badRequests.increment();
+            status = 400;
+            contentType = "text/plain";
+            body = ("Invalid graph input: " + e.getMessage() + "\n").getBytes(StandardCharsets.UTF_8);
+        } catch (RuntimeException e) {
+            failures.increment();
+            status = 500;
+            contentType = "text/plain";
+            body = ("Internal error: " + e + "\n").getBytes(StandardCharsets.UTF_8);
+        }
+        requestLatency.record(System.nanoTime() - start);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // Жауап буферге жазылады: кіріс қате болса, 400 қайтаруға әлі кеш емес
+    private byte[] computeResults(HttpExchange exchange) throws IOException {
+        boolean pretty = isPretty(exchange.getRequestURI().getQuery());
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (GraphStreamReader reader = new GraphStreamReader(
+                new BufferedReader(new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)));
+             ResultStreamWriter writer = new ResultStreamWriter(
+                     new OutputStreamWriter(body, StandardCharsets.UTF_8), Writer.nullWriter(), pretty)) {
+            MstWorkspace workspace = MstWorkspace.forCurrentThread();
+            while (reader.hasNext()) {
+                GraphRecord record = reader.next();
+                long primStart = System.nanoTime();
+                Prim.Result prim = Prim.findMST(record.graph, Prim.Mode.LAZY, workspace);
+                long kruskalStart = System.nanoTime();
+                Kruskal.Result kruskal = Kruskal.findMST(record.graph, Kruskal.Mode.SEQUENTIAL, workspace);
+                kruskalLatency.record(System.nanoTime() - kruskalStart);
+                primLatency.record(kruskalStart - primStart);
+                graphs.increment();
+                writer.write(record.id, record.graph, prim, kruskal);
+            }
+        }
+        return body.toByteArray();
+    }
+
+    // ?pretty, ?pretty= немесе ?pretty=true шегініс қосады; ?pretty=false, ?notpretty қоспайды
+    static boolean isPretty(String query) {
+        if (query == null) {
+            return false;
+        }
+        for (String parameter : query.split("&")) {
+            int eq = parameter.indexOf('=');
+            String name = eq < 0 ? parameter : parameter.substring(0, eq);
+            String value = eq < 0 ? "" : parameter.substring(eq + 1);
+            if (name.equals("pretty")) {
+                return value.isEmpty() || value.equalsIgnoreCase("true");
+            }
+        }
+        return false;
+    }
+
+    // Әр метрика отбасы бір HELP/TYPE тақырыбымен, барлық белгі жиындары сол тақырыптың астында
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        StringBuilder out = new StringBuilder();
+        writeHeader(out, "mst_request_latency_ms", "histogram", "Time to answer POST /mst in milliseconds.");
+        requestLatency.writeTo(out, "mst_request_latency_ms", "");
+        writeHeader(out, "mst_algorithm_latency_ms", "histogram", "Time of one MST algorithm run in milliseconds.");
+        primLatency.writeTo(out, "mst_algorithm_latency_ms", "algorithm=\"prim\"");
+        kruskalLatency.writeTo(out, "mst_algorithm_latency_ms", "algorithm=\"kruskal\"");
+        writeHeader(out, "mst_request_latency_max_ms", "gauge", "Slowest POST /mst so far in milliseconds.");
+        requestLatency.writeMaxTo(out, "mst_request_latency_max_ms", "");
+        writeHeader(out, "mst_algorithm_latency_max_ms", "gauge", "Slowest MST algorithm run so far in milliseconds.");
+        primLatency.writeMaxTo(out, "mst_algorithm_latency_max_ms", "algorithm=\"prim\"");
+        kruskalLatency.writeMaxTo(out, "mst_algorithm_latency_max_ms", "algorithm=\"kruskal\"");
+        writeHeader(out, "mst_graphs_total", "counter", "Graphs processed.");
+        out.append("mst_graphs_total ").append(graphs.sum()).append('\n');
+        writeHeader(out, "mst_bad_requests_total", "counter", "Requests rejected as invalid input.");
+        out.append("mst_bad_requests_total ").append(badRequests.sum()).append('\n');
+        writeHeader(out, "mst_failures_total", "counter", "Requests that failed with an internal error.");
+        out.append("mst_failures_total ").append(failures.sum()).append('\n');
+        respond(exchange, 200, "text/plain; version=0.0.4", out.toString());
+    }
+
+    private static void writeHeader(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String text)
+            throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    public LatencyHistogram getRequestLatency() {
+        return requestLatency;
+    }
+
+    public LatencyHistogram getPrimLatency() {
+        return primLatency;
+    }
+
+    public LatencyHistogram getKruskalLatency() {
+        return kruskalLatency;
+    }
+}
@@ -0,0 +1,147 @@
+package main;
+
+import algorithms.Kruskal;
+import algorithms.Prim;
+import com.google.gson.stream.JsonWriter;
+import graph.CompactGraph;
+import graph.Edge;
+
+import java.io.*;
+import java.util.List;
+
+// Нәтижелерді әр граф аяқталған бойда JSON және CSV файлдарына ағынмен жазады
+public class ResultStreamWriter implements Closeable {
+    private final JsonWriter json;
+    private final PrintWriter csv;
+
+    public ResultStreamWriter(Writer jsonOutput, Writer csvOutput, boolean pretty) throws IOException {
+        this.json = new JsonWriter(jsonOutput);
+        this.csv = new PrintWriter(csvOutput);
+
+        // Gson setPrettyPrinting() шығысымен бірдей шегініс; Gson.toJson сияқты <, >, &, =, ' таңбалары экрандалады
+        json.setIndent(pretty ? "  " : "");
+        json.setHtmlSafe(true);
+        json.beginObject();
+        json.name("results");
+        json.beginArray();
+
+        csv.println("GraphID,Algorithm,Vertices,Edges,TotalCost,OperationsCount,ExecutionTimeMs");
+    }
+
+    public static ResultStreamWriter open(String jsonPath, String csvPath, boolean pretty) throws IOException {
+        Writer jsonOutput = new BufferedWriter(new FileWriter(jsonPath));
+        try {
+            return new ResultStreamWriter(jsonOutput, new BufferedWriter(new FileWriter(csvPath)), pretty);
+        } catch (IOException e) {
+            jsonOutput.close();
+            throw e;
+        }
+    }
+
+    public void write(int graphId, CompactGraph graph, Prim.Result primResult, Kruskal.Result kruskalResult)
+            throws IOException {
+        json.beginObject();
+        json.name("graph_id").value(graphId);
+
+        json.name("input_stats");
+        json.beginObject();
+        json.name("vertices").value(graph.getVertexCount());
+        json.name("edges").value(graph.getEdgeCount());
+        json.endObject();
+
+        json.name("prim");
+        if (primResult.mstEdgeIds != null) {
+            writeAlgorithmResult(json, graph, primResult.mstEdgeIds, primResult.totalWeight,
+                    primResult.operationsCount, primResult.executionTimeMs);
+        } else {
+            writeAlgorithmResult(json, primResult.mstEdges, primResult.totalWeight,
+                    primResult.operationsCount, primResult.executionTimeMs);
+        }
+        json.name("kruskal");
+        if (kruskalResult.mstEdgeIds != null) {
+            writeAlgorithmResult(json, graph, kruskalResult.mstEdgeIds, kruskalResult.totalWeight,
+                    kruskalResult.operationsCount, kruskalResult.executionTimeMs);
+        } else {
+            writeAlgorithmResult(json, kruskalResult.mstEdges, kruskalResult.totalWeight,
+                    kruskalResult.operationsCount, kruskalResult.executionTimeMs);
+        }
+        json.endObject();
+
+        writeCsvRow(graphId, "Prim", graph, primResult.totalWeight,
+                primResult.operationsCount, primResult.executionTimeMs);
+        writeCsvRow(graphId, "Kruskal", graph, kruskalResult.totalWeight,
+                kruskalResult.operationsCount, kruskalResult.executionTimeMs);
+    }
+
+    static void writeAlgorithmResult(JsonWriter json, List<Edge> mstEdges, long totalCost, int operationsCount,
+                                     double executionTimeMs) throws IOException {
+        json.beginObject();
+        json.name("mst_edges");
+        json.beginArray();
+        for (Edge edge : mstEdges) {
+            writeEdge(json, edge.from, edge.to, edge.weight);
+        }
+        json.endArray();
+        writeSummary(json, totalCost, operationsCount, executionTimeMs);
+    }
+
+    // Қыр индекстерінен тікелей жазу: аттар мен салмақтар граф жиымдарынан алынады, Edge жасалмайды
+    static void writeAlgorithmResult(JsonWriter json, CompactGraph graph, int[] mstEdgeIds, long totalCost,
+                                     int operationsCount, double executionTimeMs) throws IOException {
+        String[] names = graph.getVertexNames();
+        int[] edgeFrom = graph.getEdgeFrom();
+        int[] edgeTo = graph.getEdgeTo();
+        int[] edgeWeight = graph.getEdgeWeight();
+        json.beginObject();
+        json.name("mst_edges");
+        json.beginArray();
+        for (int edgeId : mstEdgeIds) {
+            writeEdge(json, names[edgeFrom[edgeId]], names[edgeTo[edgeId]], edgeWeight[edgeId]);
+        }
+        json.endArray();
+        writeSummary(json, totalCost, operationsCount, executionTimeMs);
+    }
+
+    private static void writeEdge(JsonWriter json, String from, String to, int weight) throws IOException {
+        json.beginObject();
+        json.name("from").value(from);
+        json.name("to").value(to);
+        json.name("weight").value(weight);
+        json.endObject();
+    }
+
+    private static void writeSummary(JsonWriter json, long totalCost, int operationsCount,
+                                     double executionTimeMs) throws IOException {
+        json.name("total_cost").value(totalCost);
+        json.name("operations_count").value(operationsCount);
+        json.name("execution_time_ms").value(executionTimeMs);
+        json.endObject();
+    }
+
+    private void writeCsvRow(int graphId, String algorithm, CompactGraph graph, long totalCost,
+                             int operationsCount, double executionTimeMs) {
+        csv.printf("%d,%s,%d,%d,%d,%d,%.3f%n",
+                graphId,
+                algorithm,
+                graph.getVertexCount(),
+                graph.getEdgeCount(),
+                totalCost,
+                operationsCount,
+                executionTimeMs
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            json.endArray();
+            json.endObject();
+            json.close();
+        } finally {
+            csv.close();
+        }
+        if (csv.checkError()) {
+            throw new IOException("CSV файлға жазу қатесі");
+        }
+    }
+}
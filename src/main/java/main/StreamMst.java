@@ -0,0 +1,80 @@
+package main;
+
+import algorithms.StreamingMST;
+import graph.Edge;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Стандарт кірістен келетін қырлар ағынының MST-і: әр жолда "from to weight" (бос орын немесе үтір арқылы).
+// StreamMst [reportEvery] - әр reportEvery қырдан кейін және ағын соңында ағымдағы орманның құны шығарылады.
+public class StreamMst {
+    private static final int BATCH_EDGES = 1024;
+
+    public static void main(String[] args) {
+        long reportEvery;
+        try {
+            reportEvery = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        } catch (NumberFormatException e) {
+            reportEvery = 0;
+        }
+        if (reportEvery <= 0) {
+            System.err.println("Қолданылуы: StreamMst [reportEvery], reportEvery оң сан болуы керек");
+            return;
+        }
+        StreamingMST streaming = new StreamingMST();
+        List<Edge> batch = new ArrayList<>(BATCH_EDGES);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split("[,\\s]+");
+                if (parts.length != 3) {
+                    System.err.println("Қате жол " + lineNumber + ": " + line);
+                    continue;
+                }
+                int weight;
+                try {
+                    weight = Integer.parseInt(parts[2]);
+                } catch (NumberFormatException e) {
+                    System.err.println("Қате салмақ, жол " + lineNumber + ": " + line);
+                    continue; // бір қате жол бүкіл ағынды тоқтатпайды
+                }
+                batch.add(new Edge(parts[0], parts[1], weight));
+                // Топ есеп нүктесінде немесе BATCH_EDGES қырда өңделеді: уақыт әр қырға емес, топқа өлшенеді
+                if ((streaming.getEdgesSeen() + batch.size()) % reportEvery == 0) {
+                    streaming.acceptAll(batch);
+                    batch.clear();
+                    report(streaming);
+                } else if (batch.size() == BATCH_EDGES) {
+                    streaming.acceptAll(batch);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Ағынды оқу қатесі: " + e.getMessage());
+        }
+        streaming.acceptAll(batch);
+        if (streaming.getEdgesSeen() % reportEvery != 0 || streaming.getEdgesSeen() == 0) {
+            report(streaming);
+        }
+    }
+
+    private static void report(StreamingMST streaming) {
+        System.out.println("Қырлар: " + streaming.getEdgesSeen()
+                + ", төбелер: " + streaming.getVertexCount()
+                + ", компоненттер: " + streaming.getComponentCount()
+                + ", орман құны: " + streaming.getTotalCost()
+                + ", ауыстырулар: " + streaming.getReplacements());
+    }
+}
@@ -0,0 +1,247 @@
+package main;
+
+import graph.CompactGraph;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Үлкен графтарға арналған SVG/HTML сызғыш.
+// Орналасу: төбелер MST бойынша DFS ретімен «жылан» торға қойылады, сондықтан ағаш көршілері қатар тұрады (O(V + E)).
+// MST мүшелігі қыр индексі бойынша жиымнан тексеріледі; барлық қырлар бірнеше <path> элементіне жинақталып,
+// буферленген ағынмен жазылады. Қырлар саны шектен асса, ағаштан тыс қырлар детерминделген түрде іріктеледі.
+public class SvgRenderer {
+    public static final int DEFAULT_MAX_EDGES = 20_000;
+    private static final int LABEL_LIMIT = 100;     // осыдан көп төбеде аттар мен салмақтар жазылмайды
+    private static final int CELL = 10;             // viewBox ішіндегі бір тор ұяшығының өлшемі
+    private static final int SEGMENTS_PER_PATH = 5_000;
+
+    private final int width;
+    private final int height;
+    private int maxEdges = DEFAULT_MAX_EDGES;
+    private long seed = 1;
+
+    public SvgRenderer(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    // Сызылатын қырлардың жоғарғы шегі: алдымен MST қырлары, қалғаны ағаштан тыс қырлардан іріктеледі
+    public SvgRenderer maxEdges(int maxEdges) {
+        if (maxEdges < 0) {
+            throw new IllegalArgumentException("Max edges must be non-negative: " + maxEdges);
+        }
+        this.maxEdges = maxEdges;
+        return this;
+    }
+
+    public SvgRenderer seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public void render(CompactGraph graph, int[] mstEdgeIds, String title, Path file) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            render(graph, mstEdgeIds, title, out);
+        }
+    }
+
+    public void render(CompactGraph graph, int[] mstEdgeIds, String title, Writer out) throws IOException {
+        int vertexCount = graph.getVertexCount();
+        int edgeCount = graph.getEdgeCount();
+        int[] edgeFrom = graph.getEdgeFrom();
+        int[] edgeTo = graph.getEdgeTo();
+        int[] edgeWeight = graph.getEdgeWeight();
+
+        boolean[] inMst = new boolean[edgeCount];
+        long mstCost = 0;
+        for (int e : mstEdgeIds) {
+            inMst[e] = true;
+            mstCost += edgeWeight[e];
+        }
+
+        int[] position = layoutOrder(graph, mstEdgeIds);
+        int columns = Math.max(1, (int) Math.ceil(Math.sqrt((double) vertexCount * width / height)));
+        int rows = Math.max(1, (vertexCount + columns - 1) / columns);
+        int[] x = new int[vertexCount];
+        int[] y = new int[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            int row = position[v] / columns;
+            int column = position[v] % columns;
+            if ((row & 1) == 1) {
+                column = columns - 1 - column;
+            }
+            x[v] = column * CELL + CELL / 2;
+            y[v] = row * CELL + CELL / 2;
+        }
+
+        // Деталь деңгейі: MST қырлары бірінші, ағаштан тыс қырлар қалған орынға пропорционал іріктеледі
+        int treeBudget = Math.min(mstEdgeIds.length, maxEdges);
+        int nonTreeCount = edgeCount - mstEdgeIds.length;
+        double keepRatio = nonTreeCount == 0 ? 0 : Math.min(1.0, (double) (maxEdges - treeBudget) / nonTreeCount);
+        boolean labels = vertexCount <= LABEL_LIMIT;
+
+        out.write("<!DOCTYPE html>\n<html>\n<head>\n<meta charset='utf-8'>\n<title>");
+        out.write(escape(title));
+        out.write("</title>\n<style>\n");
+        out.write("  .container { margin: 20px; font-family: Arial, sans-serif; }\n");
+        out.write("  .node { fill: #4CAF50; }\n");
+        out.write("  .edge { stroke: #2196F3; stroke-width: 1; stroke-opacity: 0.4; fill: none; }\n");
+        out.write("  .mst-edge { stroke: #FF5722; stroke-width: 2; fill: none; }\n");
+        out.write("  .label { font-size: 4px; text-anchor: middle; }\n");
+        out.write("</style>\n</head>\n<body>\n<div class='container'>\n<h1>");
+        out.write(escape(title));
+        out.write("</h1>\n<p>Төбелер: " + vertexCount + ", Қырлар: " + edgeCount + "</p>\n");
+        out.write("<svg width='" + width + "' height='" + height + "' viewBox='0 0 " + columns * CELL + " "
+                + rows * CELL + "' preserveAspectRatio='xMidYMid meet'>\n");
+
+        // Салмақ жазбалары тек сызылған қырларға қойылады
+        boolean[] drawn = labels ? new boolean[edgeCount] : null;
+        int drawnNonTree = 0;
+        PathWriter edges = new PathWriter(out, "edge");
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int e = 0; e < edgeCount; e++) {
+            if (!inMst[e] && (keepRatio >= 1.0 || random.nextDouble() < keepRatio)) {
+                edges.segment(x[edgeFrom[e]], y[edgeFrom[e]], x[edgeTo[e]], y[edgeTo[e]]);
+                drawnNonTree++;
+                if (drawn != null) {
+                    drawn[e] = true;
+                }
+            }
+        }
+        edges.close();
+
+        PathWriter tree = new PathWriter(out, "mst-edge");
+        int treeStride = treeBudget == 0 ? Integer.MAX_VALUE : (mstEdgeIds.length + treeBudget - 1) / treeBudget;
+        int drawnTree = 0;
+        for (int i = 0; i < mstEdgeIds.length; i += treeStride) {
+            int e = mstEdgeIds[i];
+            tree.segment(x[edgeFrom[e]], y[edgeFrom[e]], x[edgeTo[e]], y[edgeTo[e]]);
+            drawnTree++;
+            if (drawn != null) {
+                drawn[e] = true;
+            }
+        }
+        tree.close();
+
+        // Төбелер тек қырлар шегінен аспаса сызылады, әйтпесе сурет нүктелерден тұрып қалады
+        if (vertexCount <= maxEdges) {
+            int radius = labels ? CELL / 3 : 1;
+            for (int v = 0; v < vertexCount; v++) {
+                out.write("<circle class='node' cx='" + x[v] + "' cy='" + y[v] + "' r='" + radius + "'/>\n");
+            }
+        }
+        if (labels) {
+            String[] names = graph.getVertexNames();
+            for (int v = 0; v < vertexCount; v++) {
+                out.write("<text class='label' x='" + x[v] + "' y='" + (y[v] - CELL / 3 - 1) + "'>"
+                        + escape(names[v]) + "</text>\n");
+            }
+            for (int e = 0; e < edgeCount; e++) {
+                if (!drawn[e]) {
+                    continue;
+                }
+                out.write("<text class='label' x='" + (x[edgeFrom[e]] + x[edgeTo[e]]) / 2 + "' y='"
+                        + (y[edgeFrom[e]] + y[edgeTo[e]]) / 2 + "' fill='" + (inMst[e] ? "#FF5722" : "#2196F3")
+                        + "'>" + edgeWeight[e] + "</text>\n");
+            }
+        }
+
+        out.write("</svg>\n<p>Көрсетілген қырлар: " + (drawnTree + drawnNonTree) + " / " + edgeCount
+                + " (MST: " + drawnTree + " / " + mstEdgeIds.length + ")</p>\n");
+        out.write("<p><strong>Қызыл сызықтар</strong> - MST құрамындағы қырлар</p>\n");
+        out.write("<p><strong>MST жалпы құны: " + mstCost + "</strong></p>\n");
+        out.write("</div>\n</body>\n</html>\n");
+        out.flush();
+    }
+
+    // Төбенің тордағы реттік нөмірі: MST орманы бойынша итерациялық DFS (компоненттер ең кіші id ретімен)
+    static int[] layoutOrder(CompactGraph graph, int[] mstEdgeIds) {
+        int vertexCount = graph.getVertexCount();
+        int[] edgeFrom = graph.getEdgeFrom();
+        int[] edgeTo = graph.getEdgeTo();
+
+        int[] offsets = new int[vertexCount + 1];
+        for (int e : mstEdgeIds) {
+            offsets[edgeFrom[e] + 1]++;
+            offsets[edgeTo[e] + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] neighbours = new int[offsets[vertexCount]];
+        int[] cursor = new int[vertexCount];
+        System.arraycopy(offsets, 0, cursor, 0, vertexCount);
+        for (int e : mstEdgeIds) {
+            neighbours[cursor[edgeFrom[e]]++] = edgeTo[e];
+            neighbours[cursor[edgeTo[e]]++] = edgeFrom[e];
+        }
+
+        int[] position = new int[vertexCount];
+        Arrays.fill(position, -1);
+        int[] stack = new int[vertexCount];
+        int next = 0;
+        for (int root = 0; root < vertexCount; root++) {
+            if (position[root] >= 0) {
+                continue;
+            }
+            int top = 0;
+            stack[top++] = root;
+            position[root] = next++;
+            while (top > 0) {
+                int v = stack[--top];
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    int u = neighbours[i];
+                    if (position[u] < 0) {
+                        position[u] = next++;
+                        stack[top++] = u;
+                    }
+                }
+            }
+        }
+        return position;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("'", "&#39;");
+    }
+
+    // Кесінділерді «M x y L x y» түрінде бір <path> элементіне жинап жазады
+    private static final class PathWriter {
+        private final Writer out;
+        private final String cssClass;
+        private int segments;
+
+        PathWriter(Writer out, String cssClass) {
+            this.out = out;
+            this.cssClass = cssClass;
+        }
+
+        void segment(int x1, int y1, int x2, int y2) throws IOException {
+            if (segments == 0) {
+                out.write("<path class='" + cssClass + "' d='");
+            }
+            out.write('M');
+            out.write(Integer.toString(x1));
+            out.write(' ');
+            out.write(Integer.toString(y1));
+            out.write('L');
+            out.write(Integer.toString(x2));
+            out.write(' ');
+            out.write(Integer.toString(y2));
+            if (++segments == SEGMENTS_PER_PATH) {
+                close();
+            }
+        }
+
+        void close() throws IOException {
+            if (segments > 0) {
+                out.write("'/>\n");
+                segments = 0;
+            }
+        }
+    }
+}
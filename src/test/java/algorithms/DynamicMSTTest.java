@@ -0,0 +1,93 @@
+package algorithms;
+
+import graph.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+class DynamicMSTTest {
+
+    // Кездейсоқ оқиғалар тізбегінен кейін құн жаңа Kruskal нәтижесімен бірдей
+    @Test
+    void matchesFreshKruskalAfterRandomEvents() {
+        Random random = new Random(11);
+        Graph initial = MSTTest.createRandomGraph(60, 120, 5);
+        DynamicMST dynamic = new DynamicMST(initial, Kruskal.findMST(initial));
+        assertEquals(Kruskal.findMST(initial).totalCost, dynamic.getTotalCost());
+
+        for (int step = 0; step < 2_000; step++) {
+            String from = "V" + random.nextInt(60);
+            String to = "V" + random.nextInt(60);
+            if (from.equals(to)) {
+                continue;
+            }
+            int choice = random.nextInt(3);
+            if (choice == 0) {
+                dynamic.apply(DynamicMST.Event.insert(from, to, random.nextInt(100)));
+            } else if (choice == 1) {
+                dynamic.apply(DynamicMST.Event.delete(from, to));
+            } else {
+                dynamic.insertEdge(from, to, random.nextInt(100));
+                dynamic.apply(DynamicMST.Event.update(from, to, random.nextInt(100)));
+            }
+
+            Kruskal.Result fresh = Kruskal.findMST(dynamic.toCompact());
+            if (fresh.totalCost >= 0) {
+                assertTrue(dynamic.isSpanningTree());
+                assertEquals(fresh.totalCost, dynamic.getTotalCost(), "step " + step);
+            } else {
+                assertFalse(dynamic.isSpanningTree());
+            }
+        }
+    }
+
+    // Ағаш қырын жойғанда ауыстырушы қыр табылады, салмағы өскенде арзанырақ қыр таңдалады
+    @Test
+    void replacesTreeEdgeOnDeleteAndIncrease() {
+        Graph g = new Graph(Arrays.asList("A", "B", "C"), Arrays.asList(
+                new graph.Edge("A", "B", 1), new graph.Edge("B", "C", 2), new graph.Edge("A", "C", 5)));
+        DynamicMST dynamic = new DynamicMST(g);
+        assertEquals(3, dynamic.getTotalCost());
+
+        dynamic.updateWeight("A", "B", 10);
+        assertEquals(7, dynamic.getTotalCost());
+
+        dynamic.deleteEdge("B", "C");
+        assertEquals(15, dynamic.getTotalCost());
+
+        dynamic.deleteEdge("A", "C");
+        assertFalse(dynamic.isSpanningTree());
+        assertEquals(10, dynamic.getTotalCost());
+
+        dynamic.insertEdge("C", "D", 4);
+        dynamic.insertEdge("B", "C", 3);
+        assertTrue(dynamic.isSpanningTree());
+        assertEquals(17, dynamic.getTotalCost());
+    }
+
+    // Жоқ қырға DELETE және UPDATE ештеңені өзгертпейді, UPDATE қыр қоспайды
+    @Test
+    void ignoresEventsForMissingEdges() {
+        Graph g = new Graph(Arrays.asList("A", "B", "C"), Arrays.asList(
+                new graph.Edge("A", "B", 1), new graph.Edge("B", "C", 2)));
+        DynamicMST dynamic = new DynamicMST(g);
+
+        dynamic.apply(DynamicMST.Event.delete("A", "C"));
+        dynamic.apply(DynamicMST.Event.update("A", "C", 1));
+        dynamic.apply(DynamicMST.Event.update("A", "X", 1));
+        dynamic.apply(DynamicMST.Event.delete("X", "Y"));
+        assertEquals(3, dynamic.getTotalCost());
+        assertTrue(dynamic.isSpanningTree());
+        assertEquals(2, dynamic.toCompact().getEdgeCount());
+    }
+
+    // Бастапқы MST графта жоқ төбені атаса, NPE емес, IllegalArgumentException
+    @Test
+    void rejectsInitialTreeWithUnknownVertex() {
+        Graph g = new Graph(Arrays.asList("A", "B"), Arrays.asList(new graph.Edge("A", "B", 1)));
+        Kruskal.Result initial = new Kruskal.Result(
+                new java.util.ArrayList<>(Arrays.asList(new graph.Edge("A", "Z", 1))), 1, 0, 0);
+        assertThrows(IllegalArgumentException.class, () -> new DynamicMST(g, initial));
+    }
+}
@@ -1,10 +1,14 @@
 package algorithms;
 
+import com.google.gson.*;
+import graph.CompactGraph;
 import graph.Edge;
 import graph.Graph;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.FileReader;
+import java.io.IOException;
 import java.util.*;
 
 class MSTTest {
@@ -47,6 +51,73 @@ class MSTTest {
         assertEquals(-1, Kruskal.findMST(g).totalCost);
     }
 
+    // Байланыспаған граф үшін орман: әр компоненттің ағашы мен құны, Prim мен Kruskal бірдей
+    @Test
+    void spanningForestCoversEveryComponent() {
+        List<String> nodes = Arrays.asList("A", "B", "C", "D", "E", "F");
+        List<Edge> edges = Arrays.asList(
+                new Edge("A", "B", 4), new Edge("B", "C", 1), new Edge("A", "C", 2),
+                new Edge("D", "E", 7));
+        CompactGraph g = new Graph(nodes, edges).toCompact();
+
+        for (SpanningForest forest : Arrays.asList(Prim.findForest(g), Kruskal.findForest(g))) {
+            assertEquals(3, forest.componentCount);
+            assertArrayEquals(new int[]{0, 0, 0, 1, 1, 2}, forest.componentOf);
+            assertArrayEquals(new long[]{3, 7, 0}, forest.componentCosts);
+            assertEquals(10, forest.totalCost);
+            assertEquals(2, forest.componentTrees.get(0).size());
+            assertTrue(forest.componentTrees.get(2).isEmpty());
+            assertFalse(forest.isConnected());
+            // Қырлар кірістегі бағытымен қайтарылады
+            assertTrue(forest.componentTrees.get(0).stream().anyMatch(e -> e.from.equals("B") && e.to.equals("C")));
+        }
+    }
+
+    // Байланысқан графтарда орман құны MST құнымен бірдей
+    @Test
+    void spanningForestMatchesMstOnInputGraphs() throws IOException {
+        for (Graph graph : loadInputGraphs()) {
+            CompactGraph compact = graph.toCompact();
+            SpanningForest prim = Prim.findForest(compact);
+            SpanningForest kruskal = Kruskal.findForest(compact);
+            assertEquals(prim.totalCost, kruskal.totalCost);
+            assertEquals(prim.componentCount, kruskal.componentCount);
+            assertArrayEquals(prim.componentOf, kruskal.componentOf);
+
+            Kruskal.Result mst = Kruskal.findMST(compact);
+            if (mst.totalCost >= 0 && compact.getVertexCount() > 0) {
+                assertTrue(kruskal.isConnected());
+                assertEquals(mst.totalCost, kruskal.totalCost);
+            } else if (compact.getVertexCount() > 0) {
+                assertTrue(kruskal.componentCount > 1);
+            }
+        }
+    }
+
+    // Ықшам нәтиже бастапқы қыр индекстерін береді; int шегінен асатын құн long-та дұрыс сақталады
+    @Test
+    void compactResultsExposeOriginalEdgeIds() {
+        CompactGraph.Builder builder = new CompactGraph.Builder();
+        builder.addEdge("B", "A", Integer.MAX_VALUE);
+        builder.addEdge("C", "B", Integer.MAX_VALUE);
+        builder.addEdge("A", "C", Integer.MAX_VALUE);
+        CompactGraph g = builder.build();
+
+        for (Prim.Mode mode : Prim.Mode.values()) {
+            Prim.Result prim = Prim.findMST(g, mode);
+            assertArrayEquals(new int[]{0, 1}, prim.mstEdgeIds);
+            assertEquals(2L * Integer.MAX_VALUE, prim.totalWeight);
+            assertEquals(Integer.MAX_VALUE, prim.totalCost);
+            // Ағаш қыры кері бағытталған көшірме емес, бастапқы қыр
+            assertEquals("C", prim.mstEdges.get(1).from);
+            assertEquals("B", prim.mstEdges.get(1).to);
+        }
+        Kruskal.Result kruskal = Kruskal.findMST(g);
+        assertArrayEquals(new int[]{0, 1}, kruskal.mstEdgeIds);
+        assertEquals(2L * Integer.MAX_VALUE, kruskal.totalWeight);
+        assertEquals(2, kruskal.mstEdges.size());
+    }
+
     // Алгоритмдердің орындалу уақытын және операциялар санын тексеру
     @Test
     void performanceMetricsValid() {
@@ -57,4 +128,288 @@ class MSTTest {
         assertTrue(p.executionTimeMs >= 0);
         assertTrue(p.operationsCount > 0);
     }
+
+    // data/ass_3_input.json ішіндегі барлық графтарды жүктеу
+    static List<Graph> loadInputGraphs() throws IOException {
+        List<Graph> graphs = new ArrayList<>();
+        try (FileReader reader = new FileReader("data/ass_3_input.json")) {
+            JsonObject inputJson = JsonParser.parseReader(reader).getAsJsonObject();
+            for (JsonElement graphElem : inputJson.getAsJsonArray("graphs")) {
+                JsonObject graphObj = graphElem.getAsJsonObject();
+                Set<String> nodes = new LinkedHashSet<>();
+                if (graphObj.has("nodes")) {
+                    for (JsonElement node : graphObj.getAsJsonArray("nodes")) {
+                        nodes.add(node.getAsString());
+                    }
+                }
+                List<Edge> edges = new ArrayList<>();
+                for (JsonElement edgeElem : graphObj.getAsJsonArray("edges")) {
+                    JsonObject edgeObj = edgeElem.getAsJsonObject();
+                    Edge edge = new Edge(edgeObj.get("from").getAsString(),
+                            edgeObj.get("to").getAsString(), edgeObj.get("weight").getAsInt());
+                    // "nodes" өрісі жоқ графтарда төбелер қырлардан алынады
+                    nodes.add(edge.from);
+                    nodes.add(edge.to);
+                    edges.add(edge);
+                }
+                graphs.add(new Graph(new ArrayList<>(nodes), edges));
+            }
+        }
+        return graphs;
+    }
+
+    // CSR көрінісінің құрылымын тексеру
+    @Test
+    void compactGraphMatchesAdjacency() {
+        Graph g = createSmallGraph();
+        CompactGraph cg = g.toCompact();
+
+        assertEquals(g.getVertexCount(), cg.getVertexCount());
+        assertEquals(g.getEdgeCount(), cg.getEdgeCount());
+        for (String node : g.getNodes()) {
+            int v = cg.getVertexId(node);
+            assertEquals(node, cg.getVertexName(v));
+            assertEquals(g.getAdjacencyList().get(node).size(), cg.getOffsets()[v + 1] - cg.getOffsets()[v]);
+        }
+    }
+
+    // CSR нұсқалары бастапқы алгоритмдермен бірдей құн береді
+    @Test
+    void compactAlgorithmsSameCostOnInputGraphs() throws IOException {
+        for (Graph g : loadInputGraphs()) {
+            CompactGraph cg = g.toCompact();
+            int expected = Kruskal.findMST(g).totalCost;
+            assertEquals(expected, Prim.findMST(g).totalCost);
+            assertEquals(expected, Prim.findMST(cg).totalCost);
+            assertEquals(expected, Prim.findMST(cg, Prim.Mode.EAGER).totalCost);
+            assertEquals(expected, Boruvka.findMST(cg).totalCost);
+            for (Kruskal.Mode mode : Kruskal.Mode.values()) {
+                assertEquals(expected, Kruskal.findMST(cg, mode).totalCost);
+            }
+        }
+    }
+
+    // Ұзын тізбекте union-find стекті толтырмайды және компоненттерді дұрыс санайды
+    @Test
+    void intUnionFindHandlesLongChains() {
+        int n = 1_000_000;
+        IntUnionFind uf = new IntUnionFind(n);
+        for (int i = 1; i < n; i++) {
+            assertTrue(uf.union(i - 1, i));
+        }
+        assertFalse(uf.union(0, n - 1));
+        assertTrue(uf.connected(0, n - 1));
+        assertEquals(1, uf.getComponentCount());
+        assertEquals(n, uf.componentSize(n / 2));
+    }
+
+    // Кездейсоқ байланысқан граф (тұқым арқылы қайталанатын)
+    static Graph createRandomGraph(int vertexCount, int extraEdges, long seed) {
+        Random random = new Random(seed);
+        List<String> nodes = new ArrayList<>();
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < vertexCount; i++) {
+            nodes.add("V" + i);
+            if (i > 0) {
+                edges.add(new Edge("V" + random.nextInt(i), "V" + i, random.nextInt(100)));
+            }
+        }
+        for (int i = 0; i < extraEdges; i++) {
+            edges.add(new Edge("V" + random.nextInt(vertexCount), "V" + random.nextInt(vertexCount),
+                    random.nextInt(100)));
+        }
+        return new Graph(nodes, edges);
+    }
+
+    // Eager және lazy Prim кездейсоқ тығыз графтарда бірдей нәтиже береді
+    @Test
+    void eagerPrimMatchesLazyPrim() {
+        for (long seed = 1; seed <= 20; seed++) {
+            CompactGraph cg = createRandomGraph(200, 3000, seed).toCompact();
+            Prim.Result lazy = Prim.findMST(cg, Prim.Mode.LAZY);
+            Prim.Result eager = Prim.findMST(cg, Prim.Mode.EAGER);
+            assertEquals(lazy.totalCost, eager.totalCost);
+            assertEquals(cg.getVertexCount() - 1, eager.mstEdges.size());
+        }
+    }
+
+    // Параллель Borůvka үлкен графта Kruskal-пен бірдей құн береді
+    @Test
+    void boruvkaMatchesKruskalOnLargeGraph() {
+        CompactGraph cg = createRandomGraph(50_000, 150_000, 42).toCompact();
+        Kruskal.Result kruskal = Kruskal.findMST(cg);
+        Boruvka.Result boruvka = Boruvka.findMST(cg);
+
+        assertEquals(kruskal.totalCost, boruvka.totalCost);
+        assertEquals(cg.getVertexCount() - 1, boruvka.mstEdges.size());
+        assertEquals(-1, Boruvka.findMST(new Graph(Arrays.asList("A", "B", "C"),
+                Arrays.asList(new Edge("A", "B", 1)))).totalCost);
+    }
+
+    // Kruskal-дың барлық режимдері бірдей ағаш қырларын береді
+    @Test
+    void kruskalModesProduceSameTree() {
+        for (long seed = 1; seed <= 5; seed++) {
+            CompactGraph cg = createRandomGraph(5_000, 40_000, seed).toCompact();
+            Kruskal.Result sequential = Kruskal.findMST(cg, Kruskal.Mode.SEQUENTIAL);
+            for (Kruskal.Mode mode : Kruskal.Mode.values()) {
+                Kruskal.Result result = Kruskal.findMST(cg, mode);
+                assertEquals(sequential.totalCost, result.totalCost);
+                assertEquals(sequential.mstEdges.toString(), result.mstEdges.toString());
+            }
+        }
+    }
+
+    // Санауыштар нақты операцияларға сәйкес келеді, ал NOOP нәтижеге әсер етпейді
+    @Test
+    void metricsCountHeapAndUnionFindOperations() {
+        CompactGraph cg = createRandomGraph(2_000, 8_000, 7).toCompact();
+        int vertexCount = cg.getVertexCount();
+
+        MstCounters prim = new MstCounters();
+        Prim.Result lazy = Prim.findMST(cg, Prim.Mode.LAZY, new MstWorkspace(), prim);
+        assertEquals(Prim.findMST(cg).totalWeight, lazy.totalWeight);
+        assertTrue(prim.getHeapPops() >= vertexCount - 1);
+        assertTrue(prim.getHeapPushes() >= prim.getHeapPops());
+        assertTrue(prim.getComparisons() > 0);
+        assertEquals(0, prim.getFindCalls());
+
+        MstCounters eager = new MstCounters();
+        Prim.findMST(cg, Prim.Mode.EAGER, new MstWorkspace(), eager);
+        assertEquals(vertexCount - 1, eager.getHeapPops());
+        assertEquals(vertexCount - 1, eager.getHeapPushes());
+
+        for (Kruskal.Mode mode : Kruskal.Mode.values()) {
+            MstCounters kruskal = new MstCounters();
+            Kruskal.Result result = Kruskal.findMST(cg, mode, new MstWorkspace(), kruskal);
+            assertEquals(Kruskal.findMST(cg).totalWeight, result.totalWeight);
+            assertEquals(vertexCount - 1, kruskal.getSuccessfulUnions());
+            assertTrue(kruskal.getFindCalls() >= 2 * kruskal.getUnionCalls());
+            assertTrue(kruskal.getPhaseTimeMs(MstMetrics.Phase.SORT) > 0);
+            assertTrue(kruskal.getPhaseTimeMs(MstMetrics.Phase.MAIN_LOOP) > 0);
+        }
+    }
+
+    // HEAP режимі тығыз графта ағаш толған соң тоқтайды және тексерілген қырлар санын береді
+    @Test
+    void heapKruskalStopsEarlyOnDenseGraph() {
+        CompactGraph cg = createRandomGraph(400, 60_000, 3).toCompact();
+        Kruskal.Result sorted = Kruskal.findMST(cg, Kruskal.Mode.SEQUENTIAL);
+        Kruskal.Result heap = Kruskal.findMST(cg, Kruskal.Mode.HEAP);
+        assertArrayEquals(sorted.mstEdgeIds, heap.mstEdgeIds);
+        assertEquals(sorted.edgesExamined, heap.edgesExamined);
+        assertTrue(heap.edgesExamined >= cg.getVertexCount() - 1);
+        assertTrue(heap.edgesExamined < cg.getEdgeCount() / 2);
+
+        Graph disconnected = new Graph(Arrays.asList("A", "B", "C"), List.of(new Edge("A", "B", 1)));
+        Kruskal.Result none = Kruskal.findMST(disconnected.toCompact(), Kruskal.Mode.HEAP);
+        assertEquals(-1, none.totalCost);
+        assertEquals(1, none.edgesExamined);
+    }
+
+    // Бір workspace әртүрлі өлшемді графтарда (байланыспаған граф та бар) қайта қолданылғанда нәтиже өзгермейді
+    @Test
+    void reusedWorkspaceMatchesFreshRun() {
+        MstWorkspace workspace = new MstWorkspace();
+        List<CompactGraph> graphs = Arrays.asList(
+                createRandomGraph(2_000, 10_000, 1).toCompact(),
+                createRandomGraph(50, 100, 2).toCompact(),
+                new Graph(Arrays.asList("A", "B", "C"), List.of(new Edge("A", "B", 1))).toCompact(),
+                createRandomGraph(3_000, 4_000, 3).toCompact(),
+                createRandomGraph(500, 5_000, 4).toCompact());
+        for (CompactGraph cg : graphs) {
+            for (Prim.Mode mode : Prim.Mode.values()) {
+                Prim.Result fresh = Prim.findMST(cg, mode);
+                Prim.Result reused = Prim.findMST(cg, mode, workspace);
+                assertEquals(fresh.totalWeight, reused.totalWeight);
+                assertArrayEquals(fresh.mstEdgeIds, reused.mstEdgeIds);
+            }
+            for (Kruskal.Mode mode : Kruskal.Mode.values()) {
+                Kruskal.Result fresh = Kruskal.findMST(cg, mode);
+                Kruskal.Result reused = Kruskal.findMST(cg, mode, workspace);
+                assertEquals(fresh.totalWeight, reused.totalWeight);
+                assertArrayEquals(fresh.mstEdgeIds, reused.mstEdgeIds);
+            }
+        }
+    }
+
+    // Ағын аяқталғанда нәтиже Kruskal.findMST(Graph)-пен дәл бірдей (тең салмақтар мен қайталанған қырлар бар)
+    @Test
+    void streamingMstMatchesKruskal() throws IOException {
+        List<Graph> graphs = new ArrayList<>(loadInputGraphs());
+        graphs.add(createRandomGraph(300, 3_000, 8));
+        graphs.add(createRandomGraph(1_000, 500, 9));
+        for (Graph graph : graphs) {
+            StreamingMST streaming = new StreamingMST();
+            graph.getNodes().forEach(streaming::addVertex);
+            streaming.acceptAll(graph.getEdges());
+
+            Kruskal.Result expected = Kruskal.findMST(graph);
+            Kruskal.Result actual = streaming.toResult();
+            assertEquals(expected.totalCost, actual.totalCost);
+            assertEquals(expected.mstEdges.toString(), actual.mstEdges.toString());
+            assertEquals(graph.getEdges().size(), streaming.getEdgesSeen());
+        }
+    }
+
+    // Кез келген сәтте орман келген қырлар бөлігінің ең кіші қаңқа орманы болады, ал ағаш қырлары V-1-ден аспайды
+    @Test
+    void streamingMstReportsForestAtAnyPoint() {
+        Graph graph = createRandomGraph(200, 2_000, 10);
+        List<Edge> edges = graph.getEdges();
+        StreamingMST streaming = new StreamingMST();
+        graph.getNodes().forEach(streaming::addVertex);
+        for (int i = 0; i < edges.size(); i++) {
+            streaming.accept(edges.get(i));
+            assertTrue(streaming.getTreeEdgeCount() <= graph.getNodes().size() - 1);
+            if (i % 250 == 0) {
+                CompactGraph prefix = new Graph(graph.getNodes(), edges.subList(0, i + 1)).toCompact();
+                SpanningForest forest = Kruskal.findForest(prefix);
+                assertEquals(forest.totalCost, streaming.getTotalCost(), "edge " + i);
+                assertEquals(forest.componentCount, streaming.getComponentCount());
+                assertEquals(forest.getEdges().size(), streaming.getForestEdges().size());
+            }
+        }
+        assertTrue(streaming.isSpanningTree());
+        assertTrue(streaming.getReplacements() > 0);
+
+        StreamingMST partial = new StreamingMST();
+        partial.accept(new Edge("A", "B", 3));
+        partial.addVertex("C");
+        assertEquals(3, partial.getTotalCost());
+        assertEquals(-1, partial.toResult().totalCost);
+    }
+
+    // Параллель Prim: кіріс графтарында құн Prim-мен, ағаш Kruskal-мен бірдей; үлкен графтарда ағын саны нәтижеге әсер етпейді
+    @Test
+    void parallelPrimMatchesSequentialResults() throws IOException {
+        List<CompactGraph> graphs = new ArrayList<>();
+        for (Graph graph : loadInputGraphs()) {
+            graphs.add(graph.toCompact());
+        }
+        graphs.add(new graph.GraphGenerator(graph.GraphGenerator.Shape.GRID, 40_000, 4, 12).maxWeight(20).toCompact());
+        graphs.add(createRandomGraph(30_000, 60_000, 13).toCompact());
+        graphs.add(new graph.GraphGenerator(graph.GraphGenerator.Shape.GEOMETRIC, 20_000, 6, 14).toCompact());
+
+        for (CompactGraph cg : graphs) {
+            Prim.Result prim = Prim.findMST(cg);
+            Kruskal.Result kruskal = Kruskal.findMST(cg);
+            for (int threads : new int[]{1, 4, 16}) {
+                Prim.Result parallel = ParallelPrim.findMST(cg, threads);
+                assertEquals(prim.totalWeight, parallel.totalWeight);
+                assertArrayEquals(kruskal.mstEdgeIds, parallel.mstEdgeIds);
+            }
+        }
+    }
+
+    // Операциялар санауышы int шегінен асқанда теріс санға айналмай, Integer.MAX_VALUE-та тоқтайды
+    @Test
+    void operationsCountSaturates() {
+        assertEquals(Integer.MAX_VALUE, Kruskal.saturate(200_000_000L * 19));
+        assertEquals(42, Kruskal.saturate(42));
+        CompactGraph graph = createRandomGraph(5_000, 20_000, 21).toCompact();
+        for (Kruskal.Mode mode : Kruskal.Mode.values()) {
+            assertTrue(Kruskal.findMST(graph, mode).operationsCount > 0);
+        }
+    }
 }
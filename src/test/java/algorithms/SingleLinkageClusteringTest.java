@@ -0,0 +1,58 @@
+package algorithms;
+
+import graph.CompactGraph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleLinkageClusteringTest {
+
+    // Екі тығыз топ (A-C және D-F) бір ауыр қырмен жалғанған
+    private CompactGraph createTwoGroups() {
+        CompactGraph.Builder builder = new CompactGraph.Builder();
+        builder.addEdge("A", "B", 1);
+        builder.addEdge("B", "C", 2);
+        builder.addEdge("A", "C", 3);
+        builder.addEdge("D", "E", 1);
+        builder.addEdge("E", "F", 2);
+        builder.addEdge("D", "F", 3);
+        builder.addEdge("C", "D", 50);
+        return builder.build();
+    }
+
+    // k = 2: ауыр қыр қаралмай тұрып тоқтаймыз
+    @Test
+    void stopsOnceKClustersRemain() {
+        SingleLinkageClustering.Result result = SingleLinkageClustering.byClusterCount(createTwoGroups(), 2);
+        assertEquals(2, result.clusterCount);
+        assertArrayEquals(new int[]{0, 0, 0, 1, 1, 1}, result.clusterOf);
+        assertArrayEquals(new int[]{3, 3}, result.clusterSizes);
+        assertEquals(6, result.mergeCost);
+        assertEquals(4, result.edgesExamined);
+    }
+
+    @Test
+    void thresholdKeepsHeavyEdgesOut() {
+        SingleLinkageClustering.Result result = SingleLinkageClustering.byMaxWeight(createTwoGroups(), 1);
+        assertEquals(4, result.clusterCount);
+        assertArrayEquals(new int[]{0, 0, 1, 2, 2, 3}, result.clusterOf);
+        assertEquals(2, result.mergeEdgeIds.length);
+    }
+
+    // k = 1 кезінде біріктіру қырлары дәл Kruskal MST-і
+    @Test
+    void singleClusterEqualsKruskalTree() {
+        CompactGraph cg = MSTTest.createRandomGraph(3_000, 20_000, 9).toCompact();
+        SingleLinkageClustering.Result result = SingleLinkageClustering.byClusterCount(cg, 1);
+        Kruskal.Result kruskal = Kruskal.findMST(cg);
+        assertEquals(1, result.clusterCount);
+        assertEquals(kruskal.totalWeight, result.mergeCost);
+        assertArrayEquals(kruskal.mstEdgeIds, result.mergeEdgeIds);
+        assertTrue(result.edgesExamined <= cg.getEdgeCount());
+    }
+
+    @Test
+    void rejectsNonPositiveClusterCount() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SingleLinkageClustering.byClusterCount(createTwoGroups(), 0));
+    }
+}
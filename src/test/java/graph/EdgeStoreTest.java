@@ -0,0 +1,120 @@
+package graph;
+
+import algorithms.Kruskal;
+import algorithms.Prim;
+import algorithms.WeightedTree;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+class EdgeStoreTest {
+
+    // Бірнеше тең салмағы бар кездейсоқ байланысты граф
+    private static CompactGraph randomGraph(int vertexCount, int degree, long seed) {
+        return new GraphGenerator(GraphGenerator.Shape.RANDOM, vertexCount, degree, seed)
+                .maxWeight(50).connected(true).toCompact();
+    }
+
+    // int қоймасы ықшам графтағы Kruskal-мен және eager Prim-мен бірдей қырларды, lazy Prim-мен бірдей құнды береді
+    @Test
+    void intStoreMatchesCompactGraph() {
+        CompactGraph graph = randomGraph(2_000, 10, 3);
+        EdgeStore.IntWeights store = EdgeStore.IntWeights.from(graph);
+
+        Kruskal.Result kruskal = Kruskal.findMST(graph);
+        WeightedTree storeKruskal = Kruskal.findMST(store);
+        assertTrue(storeKruskal.connected);
+        assertArrayEquals(kruskal.mstEdgeIds, storeKruskal.mstEdgeIds);
+        assertEquals(kruskal.totalWeight, storeKruskal.totalWeight);
+
+        Prim.Result eager = Prim.findMST(graph, Prim.Mode.EAGER);
+        assertArrayEquals(eager.mstEdgeIds, Prim.findMST(store, Prim.Mode.EAGER).mstEdgeIds);
+        assertEquals(kruskal.totalWeight, Prim.findMST(store, Prim.Mode.LAZY).totalWeight);
+    }
+
+    // Салмақтарды ретін сақтайтын түрлендіру (long масштабтау, double ығысу) ағашты өзгертпейді
+    @Test
+    void longAndDoubleWeightsFollowTheSameOrder() {
+        CompactGraph graph = randomGraph(1_500, 8, 4);
+        int[] intWeights = graph.getEdgeWeight();
+        long[] longWeights = new long[intWeights.length];
+        double[] doubleWeights = new double[intWeights.length];
+        for (int e = 0; e < intWeights.length; e++) {
+            longWeights[e] = intWeights[e] * 10_000_000_000L - 7;
+            doubleWeights[e] = intWeights[e] * 0.125 - 3.5;
+        }
+        EdgeStore.LongWeights longStore = new EdgeStore.LongWeights(graph.getVertexNames(),
+                graph.getEdgeFrom(), graph.getEdgeTo(), longWeights);
+        EdgeStore.DoubleWeights doubleStore = new EdgeStore.DoubleWeights(graph.getVertexNames(),
+                graph.getEdgeFrom(), graph.getEdgeTo(), doubleWeights);
+
+        Kruskal.Result expected = Kruskal.findMST(graph);
+        int treeEdges = graph.getVertexCount() - 1;
+        for (EdgeStore store : Arrays.<EdgeStore>asList(longStore, doubleStore)) {
+            assertArrayEquals(expected.mstEdgeIds, Kruskal.findMST(store).mstEdgeIds);
+            assertArrayEquals(Prim.findMST(graph, Prim.Mode.EAGER).mstEdgeIds,
+                    Prim.findMST(store, Prim.Mode.EAGER).mstEdgeIds);
+        }
+        assertEquals(expected.totalWeight * 10_000_000_000L - 7L * treeEdges, Kruskal.findMST(longStore).totalWeight);
+        assertEquals(expected.totalWeight * 0.125 - 3.5 * treeEdges, Kruskal.findMST(doubleStore).totalCost, 1e-6);
+        assertEquals(Kruskal.findMST(doubleStore).totalCost, Prim.findMST(doubleStore, Prim.Mode.LAZY).totalCost,
+                1e-6);
+    }
+
+    // Radix реті (салмақ, индекс) бойынша толық сұрыптаумен бірдей, шеткі мәндермен қоса
+    @Test
+    void edgesByWeightMatchesComparatorSort() {
+        Random random = new Random(5);
+        int edgeCount = 5_000;
+        long[] longWeights = new long[edgeCount];
+        double[] doubleWeights = new double[edgeCount];
+        long[] specialLongs = {Long.MIN_VALUE, Long.MAX_VALUE, 0, -1, 1};
+        double[] specialDoubles = {Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -0.0, 0.0,
+                Double.MIN_VALUE, -Double.MAX_VALUE};
+        for (int e = 0; e < edgeCount; e++) {
+            longWeights[e] = e % 7 == 0 ? specialLongs[random.nextInt(specialLongs.length)]
+                    : random.nextInt(3) == 0 ? random.nextInt(20) : random.nextLong();
+            doubleWeights[e] = e % 7 == 0 ? specialDoubles[random.nextInt(specialDoubles.length)]
+                    : random.nextInt(3) == 0 ? random.nextInt(20) - 10 : random.nextGaussian() * 1e6;
+        }
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        String[] names = {"A"};
+
+        EdgeStore.LongWeights longStore = new EdgeStore.LongWeights(names, from, to, longWeights);
+        Integer[] expectedLong = sortedIds(edgeCount, (a, b) -> Long.compare(longWeights[a], longWeights[b]));
+        assertArrayEquals(Arrays.stream(expectedLong).mapToInt(Integer::intValue).toArray(),
+                longStore.edgesByWeight());
+
+        EdgeStore.DoubleWeights doubleStore = new EdgeStore.DoubleWeights(names, from, to, doubleWeights);
+        // -0.0 пен 0.0 тең, сондықтан индекс бойынша ажыратылады
+        Integer[] expectedDouble = sortedIds(edgeCount,
+                (a, b) -> Double.compare(doubleWeights[a] + 0.0, doubleWeights[b] + 0.0));
+        assertArrayEquals(Arrays.stream(expectedDouble).mapToInt(Integer::intValue).toArray(),
+                doubleStore.edgesByWeight());
+    }
+
+    private static Integer[] sortedIds(int count, Comparator<Integer> byWeight) {
+        Integer[] ids = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = i;
+        }
+        Arrays.sort(ids, byWeight.thenComparing(Comparator.naturalOrder()));
+        return ids;
+    }
+
+    @Test
+    void rejectsNaNAndReportsDisconnectedGraphs() {
+        String[] names = {"A", "B", "C"};
+        assertThrows(IllegalArgumentException.class, () -> new EdgeStore.DoubleWeights(names,
+                new int[]{0}, new int[]{1}, new double[]{Double.NaN}));
+
+        EdgeStore store = new EdgeStore.DoubleWeights(names, new int[]{0}, new int[]{1}, new double[]{2.5});
+        WeightedTree kruskal = Kruskal.findMST(store);
+        assertFalse(kruskal.connected);
+        assertEquals(-1, kruskal.totalCost);
+        assertEquals(0, kruskal.mstEdgeIds.length);
+        assertFalse(Prim.findMST(store, Prim.Mode.LAZY).connected);
+    }
+}
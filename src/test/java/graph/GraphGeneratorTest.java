@@ -0,0 +1,51 @@
+package graph;
+
+import algorithms.Kruskal;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+class GraphGeneratorTest {
+
+    // Бірдей тұқым бірдей графты береді
+    @Test
+    void sameSeedGivesSameGraph() {
+        for (GraphGenerator.Shape shape : GraphGenerator.Shape.values()) {
+            CompactGraph a = new GraphGenerator(shape, 500, 6, 7).toCompact();
+            CompactGraph b = new GraphGenerator(shape, 500, 6, 7).toCompact();
+            assertEquals(500, a.getVertexCount());
+            assertArrayEquals(a.getEdgeFrom(), b.getEdgeFrom());
+            assertArrayEquals(a.getEdgeTo(), b.getEdgeTo());
+            assertArrayEquals(a.getEdgeWeight(), b.getEdgeWeight());
+        }
+    }
+
+    // Тор мен толық графтағы қырлар саны
+    @Test
+    void gridAndCompleteEdgeCounts() {
+        assertEquals(2 * 10 * 9, new GraphGenerator(GraphGenerator.Shape.GRID, 100, 0, 1).toCompact().getEdgeCount());
+        assertEquals(50 * 49 / 2, new GraphGenerator(GraphGenerator.Shape.COMPLETE, 50, 0, 1).toCompact().getEdgeCount());
+    }
+
+    // connected(true) кез келген пішінде байланысқан граф береді, салмақтар шектен аспайды
+    @Test
+    void connectedGraphsHaveSpanningTree() {
+        for (GraphGenerator.Shape shape : GraphGenerator.Shape.values()) {
+            CompactGraph graph = new GraphGenerator(shape, 2_000, 4, 3).maxWeight(50).connected(true).toCompact();
+            assertEquals(1_999, Kruskal.findMST(graph).mstEdges.size());
+            assertTrue(Arrays.stream(graph.getEdgeWeight()).allMatch(w -> w >= 1 && w <= 50));
+        }
+    }
+
+    // degree 0: GEOMETRIC тек қаңқаны береді; дәреже өте аз болса да ұяшық кестесі толып кетпейді
+    @Test
+    void geometricHandlesZeroAndTinyDegree() {
+        CompactGraph backbone = new GraphGenerator(GraphGenerator.Shape.GEOMETRIC, 1_000, 0, 5).connected(true).toCompact();
+        assertEquals(999, backbone.getEdgeCount());
+        assertEquals(0, new GraphGenerator(GraphGenerator.Shape.GEOMETRIC, 1_000, 0, 5).toCompact().getEdgeCount());
+
+        CompactGraph sparse = new GraphGenerator(GraphGenerator.Shape.GEOMETRIC, 100_000, 1, 5).connected(true).toCompact();
+        assertEquals(99_999, Kruskal.findMST(sparse).mstEdges.size());
+    }
+}
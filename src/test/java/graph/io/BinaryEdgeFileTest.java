@@ -0,0 +1,188 @@
+package graph.io;
+
+import algorithms.ExternalKruskal;
+import algorithms.Kruskal;
+import graph.CompactGraph;
+import graph.GraphGenerator;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+class BinaryEdgeFileTest {
+
+    // JSON -> қырлар файлы: әр граф үшін сыртқы Kruskal жадтағы Kruskal-мен бірдей нәтиже береді
+    @Test
+    void externalKruskalMatchesInMemoryKruskal(@TempDir Path tempDir) throws IOException {
+        Path jsonPath = Paths.get("data/ass_3_input.json");
+        try (GraphStreamReader json = new GraphStreamReader(new BufferedReader(new FileReader(jsonPath.toFile())))) {
+            while (json.hasNext()) {
+                GraphRecord record = json.next();
+                Kruskal.Result expected = Kruskal.findMST(record.graph);
+
+                // Кішкентай бөліктер бірнеше уақытша файл мен k-жолды біріктіруді мәжбүрлейді
+                ExternalKruskal.Result fromJson = ExternalKruskal.findMST(
+                        new JsonEdgeInput(jsonPath, record.id), tempDir, 3);
+                assertEquals(expected.totalWeight, fromJson.totalCost, "graph " + record.id);
+                assertEquals(expected.mstEdges.toString(), fromJson.mstEdges.toString(), "graph " + record.id);
+                assertEquals(record.graph.getEdgeCount(), fromJson.edgeCount);
+
+                Path edges = tempDir.resolve("graph" + record.id + ".edges");
+                assertEquals(record.graph.getEdgeCount(), BinaryEdgeFile.convert(jsonPath, record.id, edges));
+                try (BinaryEdgeFile.Reader reader = new BinaryEdgeFile.Reader(edges)) {
+                    ExternalKruskal.Result fromBinary = ExternalKruskal.findMST(reader, tempDir, 1 << 10);
+                    assertEquals(expected.mstEdges.toString(), fromBinary.mstEdges.toString());
+                    assertEquals(1, fromBinary.runCount);
+                    assertEquals(0, fromBinary.spillBytesWritten);
+                    // Аттар кестесі тек қажет болғанда оқылады
+                    assertEquals(24 + 12L * record.graph.getEdgeCount(), fromBinary.inputBytesRead);
+                }
+            }
+        }
+        // Уақытша бөліктер жойылған, тек қырлар файлдары қалады
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertTrue(files.allMatch(path -> path.toString().endsWith(".edges")));
+        }
+    }
+
+    // Аттарсыз генератор файлы: бөліктер саны мен байт есептегіштері сәйкес келеді
+    @Test
+    void generatedFileSpillsRuns(@TempDir Path tempDir) throws IOException {
+        GraphGenerator generator = new GraphGenerator(GraphGenerator.Shape.RANDOM, 2000, 8, 7).connected(true);
+        Path edges = tempDir.resolve("random.edges");
+        long edgeCount;
+        try (BinaryEdgeFile.Writer writer = new BinaryEdgeFile.Writer(edges)) {
+            generator.generate(writer);
+            edgeCount = writer.getEdgeCount();
+        }
+        CompactGraph graph = generator.toCompact();
+        Kruskal.Result expected = Kruskal.findMST(graph);
+
+        try (BinaryEdgeFile.Reader reader = new BinaryEdgeFile.Reader(edges)) {
+            assertEquals(2000, reader.getVertexCount());
+            assertEquals(edgeCount, reader.getEdgeCount());
+            assertEquals("V17", reader.getVertexName(17));
+
+            ExternalKruskal.Result result = ExternalKruskal.findMST(reader, tempDir, 1000);
+            assertEquals(expected.totalWeight, result.totalCost);
+            assertEquals(expected.mstEdges.toString(), result.mstEdges.toString());
+            assertEquals((edgeCount + 999) / 1000, result.runCount);
+            assertEquals(edgeCount * 20, result.spillBytesWritten);
+            assertTrue(result.spillBytesRead > 0 && result.spillBytesRead <= result.spillBytesWritten);
+            assertTrue(result.edgesExamined < edgeCount);
+        }
+        // Бөлік буферлері 1024-тен runEdges-ке дейін өседі
+        try (BinaryEdgeFile.Reader reader = new BinaryEdgeFile.Reader(edges)) {
+            ExternalKruskal.Result result = ExternalKruskal.findMST(reader, tempDir, 3000);
+            assertEquals(expected.mstEdges.toString(), result.mstEdges.toString());
+            assertEquals((edgeCount + 2999) / 3000, result.runCount);
+        }
+    }
+
+    // Байланыспаған граф: құны -1, қырлар бос
+    @Test
+    void disconnectedInputReportsMinusOne(@TempDir Path tempDir) throws IOException {
+        Path edges = tempDir.resolve("split.edges");
+        try (BinaryEdgeFile.Writer writer = new BinaryEdgeFile.Writer(edges)) {
+            writer.accept(0, 1, 5);
+            writer.accept(2, 3, 1);
+            writer.setVertexNames(new String[]{"A", "B", "C", "D"});
+        }
+        try (BinaryEdgeFile.Reader reader = new BinaryEdgeFile.Reader(edges)) {
+            ExternalKruskal.Result result = ExternalKruskal.findMST(reader, tempDir, 1);
+            assertEquals(-1, result.totalCost);
+            assertTrue(result.mstEdges.isEmpty());
+            assertEquals("C", reader.getVertexName(2));
+        }
+    }
+
+    @Test
+    void rejectsForeignFiles(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("not-edges.edges");
+        Files.write(file, new byte[24]);
+        assertThrows(IOException.class, () -> new BinaryEdgeFile.Reader(file));
+    }
+
+    // Ағаш ерте толғанда да барлық бөлік файлдары жабылады (Linux-та ашық дескрипторлар саны өспейді)
+    @Test
+    void closesRunsWhenTreeCompletesEarly(@TempDir Path tempDir) throws IOException {
+        Path descriptors = Paths.get("/proc/self/fd");
+        Assumptions.assumeTrue(Files.isDirectory(descriptors));
+        GraphGenerator generator = new GraphGenerator(GraphGenerator.Shape.COMPLETE, 120, 0, 3);
+        Path edges = tempDir.resolve("complete.edges");
+        try (BinaryEdgeFile.Writer writer = new BinaryEdgeFile.Writer(edges)) {
+            generator.generate(writer);
+        }
+
+        long before = countEntries(descriptors);
+        for (int i = 0; i < 5; i++) {
+            try (BinaryEdgeFile.Reader reader = new BinaryEdgeFile.Reader(edges)) {
+                ExternalKruskal.Result result = ExternalKruskal.findMST(reader, tempDir, 100);
+                assertTrue(result.edgesExamined < result.edgeCount);
+                assertTrue(result.runCount > 50);
+            }
+        }
+        assertTrue(countEntries(descriptors) <= before + 2);
+    }
+
+    private static long countEntries(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    // Төбелер санынан тыс қыр ұшы IOException береді
+    @Test
+    void rejectsEdgesOutsideVertexRange(@TempDir Path tempDir) throws IOException {
+        Path edges = tempDir.resolve("bad.edges");
+        try (BinaryEdgeFile.Writer writer = new BinaryEdgeFile.Writer(edges)) {
+            writer.accept(0, 1, 5);
+            writer.accept(1, 2, 5);
+        }
+        // vertexCount өрісін (8-ші байт) 2-ге түзету: екінші қыр ауқымнан шығады
+        try (FileChannel channel = FileChannel.open(edges, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, 2), 8);
+        }
+        try (BinaryEdgeFile.Reader reader = new BinaryEdgeFile.Reader(edges)) {
+            IOException error = assertThrows(IOException.class, () -> ExternalKruskal.findMST(reader, tempDir, 10));
+            assertTrue(error.getMessage().contains("Edge 1"), error.getMessage());
+        }
+    }
+
+    // Тақырыптағы теріс төбе немесе қыр саны IOException береді
+    @Test
+    void rejectsNegativeHeaderCounts(@TempDir Path tempDir) throws IOException {
+        Path edges = tempDir.resolve("negative.edges");
+        try (BinaryEdgeFile.Writer writer = new BinaryEdgeFile.Writer(edges)) {
+            writer.accept(0, 1, 5);
+        }
+        // vertexCount 8-ші байтта, edgeCount 16-шы байтта
+        patch(edges, ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, -2), 8);
+        assertThrows(IOException.class, () -> new BinaryEdgeFile.Reader(edges));
+        patch(edges, ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, 2), 8);
+        patch(edges, ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, -1), 16);
+        assertThrows(IOException.class, () -> new BinaryEdgeFile.Reader(edges));
+        patch(edges, ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, Long.MAX_VALUE / 4), 16);
+        assertThrows(IOException.class, () -> new BinaryEdgeFile.Reader(edges));
+    }
+
+    private static void patch(Path file, ByteBuffer bytes, long offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(bytes, offset);
+        }
+    }
+}
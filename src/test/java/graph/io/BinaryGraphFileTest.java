@@ -0,0 +1,125 @@
+package graph.io;
+
+import algorithms.Kruskal;
+import algorithms.Prim;
+import graph.CompactGraph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+class BinaryGraphFileTest {
+
+    // JSON -> бинарлық -> оқу: жиымдар мен MST нәтижелері өзгермейді
+    @Test
+    void roundTripPreservesGraphs(@TempDir Path tempDir) throws IOException {
+        Path binary = tempDir.resolve("input.bin");
+        assertEquals(27, BinaryGraphFile.convert(Paths.get("data/ass_3_input.json"), binary));
+
+        try (GraphStreamReader json = new GraphStreamReader(
+                new BufferedReader(new FileReader("data/ass_3_input.json")));
+             BinaryGraphFile.Reader reader = new BinaryGraphFile.Reader(binary)) {
+            assertEquals(27, reader.getGraphCount());
+            while (json.hasNext()) {
+                GraphRecord expected = json.next();
+                assertTrue(reader.hasNext());
+                GraphRecord actual = reader.next();
+
+                assertEquals(expected.id, actual.id);
+                assertEquals(expected.type, actual.type);
+                CompactGraph a = expected.graph;
+                CompactGraph b = actual.graph;
+                assertArrayEquals(a.getVertexNames(), b.getVertexNames());
+                assertArrayEquals(a.getEdgeWeight(), b.getEdgeWeight());
+                assertArrayEquals(a.getOffsets(), b.getOffsets());
+                assertArrayEquals(a.getEdgeIds(), b.getEdgeIds());
+                assertEquals(Prim.findMST(a).totalCost, Prim.findMST(b).totalCost);
+                assertEquals(Kruskal.findMST(a).mstEdges.toString(), Kruskal.findMST(b).mstEdges.toString());
+            }
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    // Басқа файлды бинарлық граф ретінде ашуға болмайды
+    @Test
+    void rejectsForeignFiles(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("not-a-graph.bin");
+        Files.write(file, new byte[]{'{', '}', ' ', ' ', 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0});
+        assertThrows(IOException.class, () -> new BinaryGraphFile.Reader(file));
+    }
+
+    // Тақырып өлшемдері бұзылса IOException (NegativeArraySize/OOM емес)
+    @Test
+    void rejectsCorruptHeaderCounts(@TempDir Path tempDir) throws IOException {
+        Path binary = writeTriangles(tempDir);
+        for (int value : new int[]{-1, Integer.MAX_VALUE, 1 << 28}) {
+            Path corrupt = tempDir.resolve("corrupt.bin");
+            Files.copy(binary, corrupt, StandardCopyOption.REPLACE_EXISTING);
+            patchInt(corrupt, HEADER + 8, value); // бірінші графтың edgeCount өрісі
+            try (BinaryGraphFile.Reader reader = new BinaryGraphFile.Reader(corrupt)) {
+                assertThrows(IOException.class, reader::next);
+            }
+            patchInt(corrupt, HEADER + 8, 3);
+            patchInt(corrupt, HEADER + 4, value); // vertexCount
+            try (BinaryGraphFile.Reader reader = new BinaryGraphFile.Reader(corrupt)) {
+                assertThrows(IOException.class, reader::next);
+            }
+        }
+    }
+
+    // CSR жиымы ауқымнан шықса, тек сол граф өткізіліп, келесісі оқылады
+    @Test
+    void skipsGraphWithInconsistentArrays(@TempDir Path tempDir) throws IOException {
+        Path binary = writeTriangles(tempDir);
+        // Үшбұрыш: n = 3, m = 3, type жоқ, атаулар "A", "B", "C" (3 байт -> 4)
+        long targets = HEADER + 20 + 4 * 4 + 4 + 3 * 3 * 4 + 4 * 4;
+        patchInt(binary, targets + 4, 7);
+        try (BinaryGraphFile.Reader reader = new BinaryGraphFile.Reader(binary)) {
+            IllegalStateException error = assertThrows(IllegalStateException.class, reader::next);
+            assertTrue(error.getMessage().contains("Graph 1"), error.getMessage());
+            assertTrue(reader.hasNext());
+            GraphRecord second = reader.next();
+            assertEquals(2, second.id);
+            assertEquals(3, Kruskal.findMST(second.graph).totalCost);
+        }
+
+        patchInt(binary, targets + 4, 1);
+        patchInt(binary, HEADER + 20 + 4 * 4 + 4 + 4, 9); // edgeFrom[1]
+        try (BinaryGraphFile.Reader reader = new BinaryGraphFile.Reader(binary)) {
+            assertThrows(IllegalStateException.class, reader::next);
+        }
+    }
+
+    private static final long HEADER = 16;
+
+    private static Path writeTriangles(Path tempDir) throws IOException {
+        Path binary = tempDir.resolve("triangles.bin");
+        try (BinaryGraphFile.Writer writer = new BinaryGraphFile.Writer(binary)) {
+            for (int id = 1; id <= 2; id++) {
+                CompactGraph.Builder builder = new CompactGraph.Builder();
+                builder.addEdge("A", "B", 1);
+                builder.addEdge("B", "C", 2);
+                builder.addEdge("A", "C", 5);
+                writer.write(id, null, builder.build());
+            }
+        }
+        return binary;
+    }
+
+    private static void patchInt(Path file, long offset, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, value), offset);
+        }
+    }
+}
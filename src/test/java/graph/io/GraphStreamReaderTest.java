@@ -0,0 +1,78 @@
+package graph.io;
+
+import algorithms.Kruskal;
+import graph.CompactGraph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.*;
+
+class GraphStreamReaderTest {
+
+    // Кіріс файлындағы барлық графтар ретімен оқылады
+    @Test
+    void readsAllInputGraphsInOrder() throws IOException {
+        List<Integer> ids = new ArrayList<>();
+        try (GraphStreamReader reader = new GraphStreamReader(
+                new BufferedReader(new FileReader("data/ass_3_input.json")))) {
+            while (reader.hasNext()) {
+                GraphRecord record = reader.next();
+                ids.add(record.id);
+                assertTrue(record.graph.getVertexCount() > 0);
+            }
+        }
+        assertEquals(27, ids.size());
+        assertEquals(1, ids.get(0));
+        assertEquals(28, ids.get(ids.size() - 1));
+    }
+
+    // Өрістер реті мен белгісіз өрістер оқуға кедергі келтірмейді; id жоқ граф өткізіледі
+    @Test
+    void toleratesFieldOrderAndSkipsBrokenGraph() throws IOException {
+        String json = "{\"meta\": {\"x\": [1, 2]}, \"graphs\": ["
+                + "{\"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": 2}], \"note\": null},"
+                + "{\"nodes\": [\"A\", \"B\", \"C\"], \"id\": 5,"
+                + " \"edges\": [{\"weight\": 1, \"from\": \"A\", \"to\": \"B\"}, {\"from\": \"B\", \"to\": \"C\", \"weight\": 3}]}"
+                + "]}";
+        try (GraphStreamReader reader = new GraphStreamReader(new StringReader(json))) {
+            assertTrue(reader.hasNext());
+            assertThrows(IllegalStateException.class, reader::next);
+
+            GraphRecord record = reader.next();
+            CompactGraph graph = record.graph;
+            assertEquals(5, record.id);
+            assertEquals(3, graph.getVertexCount());
+            assertEquals(0, graph.getVertexId("A"));
+            assertEquals(4, Kruskal.findMST(graph).totalCost);
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    // Қате қыр (ұшы жоқ немесе салмағы бүтін емес) тек өз графын өткізеді: келесі граф дұрыс оқылады
+    @Test
+    void badEdgeSkipsOnlyItsGraph() throws IOException {
+        String json = "{\"graphs\": ["
+                + "{\"id\": 1, \"edges\": [{\"from\": \"A\", \"weight\": 1}, {\"from\": \"A\", \"to\": \"C\"}]},"
+                + "{\"id\": 2, \"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": 2.5}]},"
+                + "{\"id\": 3, \"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": true}]},"
+                + "{\"id\": 4, \"nodes\": [\"A\", \"B\"], \"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": 7}]}"
+                + "]}";
+        try (GraphStreamReader reader = new GraphStreamReader(new StringReader(json))) {
+            IllegalStateException missing = assertThrows(IllegalStateException.class, reader::next);
+            assertTrue(missing.getMessage().startsWith("Edge without endpoints"), missing.getMessage());
+            IllegalStateException fractional = assertThrows(IllegalStateException.class, reader::next);
+            assertTrue(fractional.getMessage().contains("2.5"), fractional.getMessage());
+            assertThrows(IllegalStateException.class, reader::next);
+
+            assertTrue(reader.hasNext());
+            GraphRecord record = reader.next();
+            assertEquals(4, record.id);
+            assertEquals(7, Kruskal.findMST(record.graph).totalCost);
+            assertFalse(reader.hasNext());
+        }
+    }
+}
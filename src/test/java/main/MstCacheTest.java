@@ -0,0 +1,84 @@
+package main;
+
+import algorithms.Kruskal;
+import algorithms.Prim;
+import graph.CompactGraph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class MstCacheTest {
+
+    private CompactGraph createGraph(int extraWeight) {
+        CompactGraph.Builder builder = new CompactGraph.Builder();
+        builder.addEdge("A", "B", 1);
+        builder.addEdge("B", "C", 2);
+        builder.addEdge("A", "C", extraWeight);
+        return builder.build();
+    }
+
+    private MstCache.Entry compute(CompactGraph graph) {
+        return new MstCache.Entry(Prim.findMST(graph), Kruskal.findMST(graph));
+    }
+
+    // Бірдей мазмұн бірдей хэш береді, салмақ өзгерсе хэш өзгереді
+    @Test
+    void hashDependsOnContentOnly() {
+        assertEquals(MstCache.contentHash(createGraph(5)), MstCache.contentHash(createGraph(5)));
+        assertNotEquals(MstCache.contentHash(createGraph(5)), MstCache.contentHash(createGraph(6)));
+    }
+
+    // Жадтағы LRU шегінен асқанда ең ескі жазба ығыстырылады
+    @Test
+    void memoryTierEvictsLeastRecentlyUsed() {
+        MstCache cache = new MstCache(2);
+        cache.put("a", compute(createGraph(5)));
+        cache.put("b", compute(createGraph(6)));
+        assertNotNull(cache.get("a"));
+        cache.put("c", compute(createGraph(7)));
+
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+        assertEquals(1, cache.getEvictions());
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    // Дискідегі деңгей жаңа кэш данасынан оқылады және нәтижені толық қалпына келтіреді
+    @Test
+    void diskTierSurvivesRestart(@TempDir Path dir) {
+        CompactGraph graph = createGraph(5);
+        String hash = MstCache.contentHash(graph);
+        MstCache.Entry entry = compute(graph);
+        new MstCache(4, dir, 1 << 20).put(hash, entry);
+
+        MstCache restarted = new MstCache(4, dir, 1 << 20);
+        MstCache.Entry loaded = restarted.get(hash);
+        assertNotNull(loaded);
+        assertEquals(1, restarted.getDiskHits());
+        assertEquals(entry.prim.totalCost, loaded.prim.totalCost);
+        assertEquals(entry.kruskal.mstEdges.toString(), loaded.kruskal.mstEdges.toString());
+    }
+
+    // Басқа нұсқа жазған файл қолданылмайды: жазбалар v<FORMAT_VERSION> каталогында
+    @Test
+    void diskTierIgnoresOtherFormatVersions(@TempDir Path dir) throws IOException {
+        CompactGraph graph = createGraph(5);
+        String hash = MstCache.contentHash(graph);
+        new MstCache(4, dir, 1 << 20).put(hash, compute(graph));
+        Path current = dir.resolve("v" + MstCache.FORMAT_VERSION).resolve(hash + ".json");
+        assertTrue(Files.exists(current));
+
+        Path stale = dir.resolve("v" + (MstCache.FORMAT_VERSION - 1));
+        Files.createDirectories(stale);
+        Files.move(current, stale.resolve(hash + ".json"));
+        Files.copy(stale.resolve(hash + ".json"), dir.resolve(hash + ".json"));
+        MstCache restarted = new MstCache(4, dir, 1 << 20);
+        assertNull(restarted.get(hash));
+        assertEquals(1, restarted.getMisses());
+    }
+}
@@ -0,0 +1,143 @@
+package main;
+
+import algorithms.Kruskal;
+import algorithms.Prim;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import graph.io.GraphRecord;
+import graph.io.GraphStreamReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+class MstServerTest {
+    private MstServer server;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new MstServer(0, 2);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop();
+    }
+
+    private HttpResponse<String> post(HttpRequest.BodyPublisher body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/mst"))
+                .POST(body).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    // Кіріс файлы бүтіндей жіберілгенде құндар пакеттік өңдеумен бірдей, ал кідірістер метрикаларда көрінеді
+    @Test
+    void returnsResultsForInputFile() throws Exception {
+        Path input = Paths.get("data/ass_3_input.json");
+        Map<Integer, Long> expectedCost = new HashMap<>();
+        try (GraphStreamReader reader = new GraphStreamReader(new BufferedReader(new FileReader(input.toFile())))) {
+            while (reader.hasNext()) {
+                GraphRecord record = reader.next();
+                assertEquals(Prim.findMST(record.graph).totalWeight, Kruskal.findMST(record.graph).totalWeight);
+                expectedCost.put(record.id, Prim.findMST(record.graph).totalWeight);
+            }
+        }
+
+        for (int round = 0; round < 2; round++) {
+            HttpResponse<String> response = post(HttpRequest.BodyPublishers.ofFile(input));
+            assertEquals(200, response.statusCode());
+            JsonArray results = JsonParser.parseString(response.body()).getAsJsonObject().getAsJsonArray("results");
+            assertEquals(expectedCost.size(), results.size());
+            for (JsonElement element : results) {
+                JsonObject result = element.getAsJsonObject();
+                long expected = expectedCost.get(result.get("graph_id").getAsInt());
+                assertEquals(expected, result.getAsJsonObject("prim").get("total_cost").getAsLong());
+                assertEquals(expected, result.getAsJsonObject("kruskal").get("total_cost").getAsLong());
+            }
+        }
+
+        assertEquals(2, server.getRequestLatency().getCount());
+        assertEquals(2L * expectedCost.size(), server.getPrimLatency().getCount());
+        String metrics = get("/metrics").body();
+        assertTrue(metrics.contains("mst_request_latency_ms_count 2\n"), metrics);
+        assertTrue(metrics.contains("mst_algorithm_latency_ms_bucket{algorithm=\"kruskal\",le=\"+Inf\"} "
+                + 2 * expectedCost.size() + "\n"), metrics);
+        assertTrue(metrics.contains("mst_graphs_total " + 2 * expectedCost.size() + "\n"));
+        // Әр отбасы үшін бір TYPE жолы, екі алгоритмнің сериялары бір блокта; максимум - бөлек gauge
+        assertEquals(1, metrics.split("# TYPE mst_algorithm_latency_ms histogram\n", -1).length - 1, metrics);
+        String family = metrics.substring(metrics.indexOf("# TYPE mst_algorithm_latency_ms histogram"),
+                metrics.indexOf("# HELP mst_request_latency_max_ms"));
+        assertTrue(family.contains("algorithm=\"prim\"") && family.contains("algorithm=\"kruskal\""));
+        assertTrue(metrics.contains("# TYPE mst_algorithm_latency_max_ms gauge\n"));
+        assertTrue(metrics.contains("# TYPE mst_graphs_total counter\n"));
+        for (String line : metrics.split("\n")) {
+            assertFalse(line.contains("latency_ms_max"), line);
+        }
+    }
+
+    // Қате дене 400, басқа әдіс 405 қайтарады; сервис жұмысын жалғастырады
+    @Test
+    void rejectsInvalidRequests() throws Exception {
+        assertEquals(400, post(HttpRequest.BodyPublishers.ofString("{\"graphs\": [{\"nodes\": [")).statusCode());
+        assertEquals(400, post(HttpRequest.BodyPublishers.noBody()).statusCode());
+        assertEquals(405, get("/mst").statusCode());
+        assertEquals("ok\n", get("/health").body());
+
+        HttpResponse<String> response = post(HttpRequest.BodyPublishers.ofString(
+                "{\"graphs\": [{\"id\": 7, \"nodes\": [\"A\", \"B\"], \"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": 3}]}]}"));
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"total_cost\":3"), response.body());
+        assertTrue(get("/metrics").body().contains("mst_bad_requests_total 2\n"));
+    }
+
+    @Test
+    void prettyParameterIsParsedByName() {
+        assertTrue(MstServer.isPretty("pretty"));
+        assertTrue(MstServer.isPretty("pretty=true"));
+        assertTrue(MstServer.isPretty("x=1&pretty"));
+        assertFalse(MstServer.isPretty(null));
+        assertFalse(MstServer.isPretty("pretty=false"));
+        assertFalse(MstServer.isPretty("notpretty"));
+        assertFalse(MstServer.isPretty("x=pretty"));
+    }
+
+    @Test
+    void histogramQuantilesUseBucketBounds() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(300_000); // 0.3 ms
+        }
+        histogram.record(30_000_000_000L); // 30 s: +Inf бакеті
+        assertEquals(0.5, histogram.quantileMs(0.5));
+        assertEquals(0.5, histogram.quantileMs(0.99));
+        assertEquals(30_000, histogram.quantileMs(1.0), 1e-9);
+
+        StringBuilder out = new StringBuilder();
+        histogram.writeTo(out, "latency", "");
+        assertTrue(out.toString().contains("latency_bucket{le=\"0.5\"} 99\n"));
+        assertTrue(out.toString().contains("latency_bucket{le=\"+Inf\"} 100\n"));
+        assertTrue(out.toString().contains("latency_count 100\n"));
+    }
+}
@@ -0,0 +1,64 @@
+package main;
+
+import algorithms.Kruskal;
+import algorithms.Prim;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import graph.CompactGraph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+class ResultStreamWriterTest {
+
+    private CompactGraph createSmallGraph() {
+        CompactGraph.Builder builder = new CompactGraph.Builder();
+        builder.addEdge("A", "B", 1);
+        builder.addEdge("B", "C", 2);
+        builder.addEdge("A", "C", 4);
+        return builder.build();
+    }
+
+    // Ықшам JSON шығысы бір жолда жазылады және дұрыс оқылады; CSV әр алгоритмге бір жол
+    @Test
+    void writesCompactJsonAndCsvRows() throws IOException {
+        CompactGraph graph = createSmallGraph();
+        StringWriter json = new StringWriter();
+        StringWriter csv = new StringWriter();
+
+        try (ResultStreamWriter writer = new ResultStreamWriter(json, csv, false)) {
+            writer.write(7, graph, Prim.findMST(graph), Kruskal.findMST(graph));
+        }
+
+        assertFalse(json.toString().contains("\n"));
+        JsonObject result = JsonParser.parseString(json.toString()).getAsJsonObject()
+                .getAsJsonArray("results").get(0).getAsJsonObject();
+        assertEquals(7, result.get("graph_id").getAsInt());
+        assertEquals(3, result.getAsJsonObject("prim").get("total_cost").getAsInt());
+        assertEquals(2, result.getAsJsonObject("kruskal").getAsJsonArray("mst_edges").size());
+
+        String[] lines = csv.toString().split("\\R");
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].startsWith("7,Prim,3,3,3,"));
+        assertTrue(lines[2].startsWith("7,Kruskal,3,3,3,"));
+    }
+
+    // Төбе аттарындағы HTML таңбалары бұрынғы Gson.toJson шығысындағыдай экрандалады
+    @Test
+    void escapesHtmlCharactersLikeGson() throws IOException {
+        CompactGraph.Builder builder = new CompactGraph.Builder();
+        builder.addEdge("<a&b>", "x='y'", 1);
+        CompactGraph graph = builder.build();
+        StringWriter json = new StringWriter();
+        try (ResultStreamWriter writer = new ResultStreamWriter(json, new StringWriter(), false)) {
+            writer.write(1, graph, Prim.findMST(graph), Kruskal.findMST(graph));
+        }
+
+        String expected = new Gson().toJson("<a&b>") + "," + "\"to\":" + new Gson().toJson("x='y'");
+        assertTrue(json.toString().contains("\"from\":" + expected), json.toString());
+        assertFalse(json.toString().contains("<"));
+    }
+}
@@ -0,0 +1,74 @@
+package main;
+
+import algorithms.Kruskal;
+import graph.CompactGraph;
+import graph.GraphGenerator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+class SvgRendererTest {
+
+    // Орналасу реті әр төбеге бірегей тор орнын береді
+    @Test
+    void layoutOrderIsPermutation() {
+        CompactGraph graph = new GraphGenerator(GraphGenerator.Shape.RANDOM, 1_000, 4, 3).toCompact();
+        int[] position = SvgRenderer.layoutOrder(graph, Kruskal.findMST(graph).mstEdgeIds);
+        boolean[] used = new boolean[position.length];
+        for (int p : position) {
+            assertFalse(used[p]);
+            used[p] = true;
+        }
+    }
+
+    // 100k+ қырлы граф: MST толық сызылады, ағаштан тыс қырлар шекке дейін іріктеледі
+    @Test
+    void samplesNonTreeEdgesOnLargeGraphs() throws IOException {
+        CompactGraph graph = new GraphGenerator(GraphGenerator.Shape.RANDOM, 20_000, 12, 5)
+                .connected(true).toCompact();
+        Kruskal.Result mst = Kruskal.findMST(graph);
+        StringWriter out = new StringWriter();
+        new SvgRenderer(1200, 800).maxEdges(30_000).render(graph, mst.mstEdgeIds, "<large>", out);
+
+        String html = out.toString();
+        assertTrue(graph.getEdgeCount() > 100_000);
+        assertTrue(html.contains("&lt;large&gt;"));
+        assertTrue(html.contains("(MST: " + mst.mstEdgeIds.length + " / " + mst.mstEdgeIds.length + ")"));
+        int segments = html.split("L", -1).length - 1;
+        assertTrue(segments < 31_000, "segments: " + segments);
+        assertFalse(html.contains("<text"));
+    }
+
+    @Test
+    void smallGraphsKeepLabels() throws IOException {
+        CompactGraph.Builder builder = new CompactGraph.Builder();
+        builder.addEdge("A", "B", 1);
+        builder.addEdge("B", "C", 2);
+        builder.addEdge("A", "C", 3);
+        CompactGraph graph = builder.build();
+        StringWriter out = new StringWriter();
+        new SvgRenderer(600, 400).render(graph, Kruskal.findMST(graph).mstEdgeIds, "small", out);
+
+        String html = out.toString();
+        assertEquals(3, html.split("<circle", -1).length - 1);
+        assertTrue(html.contains("MST жалпы құны: 3"));
+        assertTrue(html.contains("Көрсетілген қырлар: 3 / 3"));
+    }
+
+    // Салмақ жазбалары тек сызылған қырларда: 100 төбелі толық графта maxEdges-тен аспайды
+    @Test
+    void weightLabelsFollowDrawnEdges() throws IOException {
+        CompactGraph graph = new GraphGenerator(GraphGenerator.Shape.COMPLETE, 100, 0, 4).toCompact();
+        StringWriter out = new StringWriter();
+        new SvgRenderer(600, 400).maxEdges(300).render(graph, Kruskal.findMST(graph).mstEdgeIds, "complete", out);
+
+        String html = out.toString();
+        int labels = html.split("<text", -1).length - 1;
+        String shown = html.substring(html.indexOf("Көрсетілген қырлар: ") + "Көрсетілген қырлар: ".length());
+        int drawn = Integer.parseInt(shown.substring(0, shown.indexOf(' ')));
+        assertTrue(drawn < 4_950);
+        assertEquals(100 + drawn, labels); // төбе аттары + сызылған қырлардың салмақтары
+    }
+}